@@ -3,8 +3,10 @@ package org.example.springdeveloper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing // create_at, updated_at 자동 업데이트
+@EnableScheduling // 임시 저장본 기록 등 주기 작업 실행
 @SpringBootApplication
 public class BlogPracticeApplication {
     public static void main(String[] args) {
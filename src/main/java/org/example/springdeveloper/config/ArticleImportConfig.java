@@ -0,0 +1,34 @@
+package org.example.springdeveloper.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springdeveloper.dto.ArticleImportResult;
+import org.example.springdeveloper.service.ArticleImportFormat;
+import org.example.springdeveloper.service.ArticleImportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * 📌 게시글 대량 가져오기 실행 설정
+ * 실행 시 --blog.import.file=경로 (필요하면 --blog.import.format=csv)를 지정하면 애플리케이션 시작 직후 가져오기를 수행함
+ */
+@Slf4j
+@Configuration
+public class ArticleImportConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "blog.import.file") // ✅ 가져올 파일이 지정된 경우에만 등록
+    public ApplicationRunner articleImportRunner(ArticleImportService articleImportService,
+                                                 @Value("${blog.import.file}") String file,
+                                                 @Value("${blog.import.format:ndjson}") String format) {
+        return args -> {
+            ArticleImportResult result = articleImportService.importFile(Path.of(file), ArticleImportFormat.from(format));
+            log.info("Article import {}: {} imported, {} failed (see {}) in {}", result.getSource(),
+                    result.getImportedCount(), result.getFailedCount(), result.getFailedRows(), result.getElapsed());
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.springdeveloper.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📌 비밀번호 해싱을 전용 스레드 풀에서 수행하는 PasswordEncoder
+ * 해싱 동시 실행 수를 스레드 수로, 대기 요청 수를 큐 크기로 제한하여
+ * 로그인·회원가입이 몰려도 다른 요청이 쓸 CPU를 모두 차지하지 못하게 함
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final int CALIBRATION_PROBE_STRENGTH = 8; // 보정 측정에 쓰는 낮은 cost (빠르게 측정)
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeout.toMillis();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()); // ✅ 큐가 가득 차면 기다리지 않고 즉시 거절
+    }
+
+    /**
+     * 📌 해시 한 번에 목표 시간 정도가 걸리는 BCrypt cost(strength)를 측정으로 결정
+     * cost가 1 늘 때마다 해싱 시간이 두 배가 되는 성질을 이용해 낮은 cost의 측정값으로부터 계산함
+     * @param target 해시 한 번의 목표 시간
+     * @param minStrength 최소 cost
+     * @param maxStrength 최대 cost
+     * @return 보정된 cost
+     */
+    public static int calibrateStrength(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_PROBE_STRENGTH);
+        String password = "calibration-password";
+        for (int i = 0; i < 3; i++) { // ✅ JIT 컴파일 전의 느린 측정값을 제외
+            probe.encode(password);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode(password);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double doublings = Math.log((double) target.toNanos() / best) / Math.log(2);
+        int strength = Math.max(minStrength, Math.min(maxStrength,
+                CALIBRATION_PROBE_STRENGTH + (int) Math.round(doublings)));
+        log.info("Calibrated BCrypt strength {} (cost {} took {} us, target {} ms)",
+                strength, CALIBRATION_PROBE_STRENGTH, best / 1_000, target.toMillis());
+        return strength;
+    }
+
+    /**
+     * @throws PasswordHashingRejectedException 해싱 큐가 가득 찼거나 시간 안에 끝나지 않은 경우
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * 로그인 검증에서만 호출되므로, 거절되면 로그인 실패로 처리되도록 인증 예외로 감싸서 던짐
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            return execute(() -> delegate.matches(rawPassword, encodedPassword));
+        } catch (PasswordHashingRejectedException e) {
+            throw new InternalAuthenticationServiceException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정보다 낮으면 로그인 성공 시 다시 해싱하도록 알림
+     * 해싱 큐에 여유가 없을 때는 재해싱을 미룸 (다음 로그인에서 다시 시도)
+     * 확인 직후 큐가 가득 차 encode가 거절되는 경우는 UpgradeSkippingAuthenticationProvider가 재해싱만 건너뜀
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return executor.getQueue().remainingCapacity() > 0 && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingRejectedException("password hashing queue is full", e);
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingRejectedException("password hashing timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingRejectedException("interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
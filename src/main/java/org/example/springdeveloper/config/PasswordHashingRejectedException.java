@@ -0,0 +1,16 @@
+package org.example.springdeveloper.config;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 비밀번호 해싱 작업 큐가 가득 찼거나 제한 시간 안에 해싱이 끝나지 않았을 때 발생하는 예외입니다.
+ * MVC 요청에서는 503 Service Unavailable로 응답합니다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.springdeveloper.config;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 📌 로그인 성공 후의 비밀번호 재해싱이 거절되어도 로그인은 성공시키는 DaoAuthenticationProvider
+ * upgradeEncoding에서 해싱 큐에 여유가 있었더라도 encode 직전에 큐가 가득 찰 수 있으므로,
+ * 이 경우 재해싱만 건너뛰고 다음 로그인에서 다시 시도함 (비밀번호 검증은 이미 끝난 상태)
+ */
+public class UpgradeSkippingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication,
+                                                         UserDetails user) {
+        try {
+            return super.createSuccessAuthentication(principal, authentication, user);
+        } catch (PasswordHashingRejectedException e) {
+            // ✅ 재해싱 없이 인증 결과만 만듦 (상위 클래스의 기본 동작과 같음)
+            UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(
+                    principal, authentication.getCredentials(), user.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.springdeveloper.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 📌 Spring MVC 설정 클래스
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * 📌 CBOR 응답 변환기 (Accept: application/cbor)
+     * 스프링 부트가 구성한 ObjectMapper 설정(모듈, 날짜 형식 등)을 그대로 사용하되 바이너리 팩토리만 바꿔 끼움
+     * @param builder 스프링 부트의 Jackson2ObjectMapperBuilder (프로토타입 빈이므로 주입마다 새 인스턴스)
+     * @return MappingJackson2CborHttpMessageConverter 객체
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * 📌 Smile 응답 변환기 (Accept: application/x-jackson-smile)
+     * @param builder 스프링 부트의 Jackson2ObjectMapperBuilder
+     * @return MappingJackson2SmileHttpMessageConverter 객체
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
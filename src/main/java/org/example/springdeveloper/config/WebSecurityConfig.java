@@ -1,16 +1,22 @@
 package org.example.springdeveloper.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.DefaultSecurityFilterChain;
 
+import java.time.Duration;
+
 import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toH2Console;
 
 @RequiredArgsConstructor // final 필드를 포함한 생성자를 자동으로 생성해 줌
@@ -43,6 +49,10 @@ public class WebSecurityConfig {
                 .authorizeHttpRequests() // ✅ 인증 및 인가(접근 권한) 설정 시작
                 .requestMatchers("/login", "/signup", "/user").permitAll()
                 // ✅ "/login", "/signup", "/user" URL은 **인증 없이 접근 허용**
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                // ✅ 로드 밸런서·오케스트레이터의 liveness/readiness 확인은 인증 없이 허용
+                .requestMatchers("/admin/**").hasRole("ADMIN")
+                // ✅ 추적·SQL 통계·워밍업 등 운영용 "/admin/**" 엔드포인트는 **ADMIN 권한 사용자만 접근 가능**
                 .anyRequest().authenticated()
                 // ✅ 위에서 설정한 URL을 제외한 모든 요청은 **인증된 사용자만 접근 가능**
 
@@ -68,30 +78,54 @@ public class WebSecurityConfig {
     /**
      * 📌 사용자 인증(Authentication) 관리 설정
      * @param http Spring Security의 HttpSecurity 객체
-     * @param bCryptPasswordEncoder 비밀번호 암호화 객체
+     * @param passwordEncoder 비밀번호 암호화 객체
      * @param userService 사용자 정보 서비스 (UserDetailsService)
      * @return AuthenticationManager 객체
      * @throws Exception 예외 처리
      */
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http,
-                                                       BCryptPasswordEncoder bCryptPasswordEncoder,
+                                                       PasswordEncoder passwordEncoder,
                                                        UserDetailsService userService)
             throws Exception {
+        DaoAuthenticationProvider provider = new UpgradeSkippingAuthenticationProvider();
+        provider.setUserDetailsService(userService); // ✅ 사용자 정보 서비스 설정 (로그인할 때 사용자 정보 로드)
+        provider.setPasswordEncoder(passwordEncoder); // ✅ 비밀번호를 암호화하여 검증
+        if (userService instanceof UserDetailsPasswordService passwordService) {
+            // ✅ 로그인 성공 시 낮은 cost의 해시는 자동으로 재해싱됨 (해싱 큐가 가득 차면 건너뜀)
+            provider.setUserDetailsPasswordService(passwordService);
+        }
         return http.getSharedObject(AuthenticationManagerBuilder.class)
-                .userDetailsService(userService) // ✅ 사용자 정보 서비스 설정 (로그인할 때 사용자 정보 로드)
-                .passwordEncoder(bCryptPasswordEncoder) // ✅ 비밀번호를 암호화하여 검증
-                .and()
+                .authenticationProvider(provider)
                 .build();
     }
 
     /**
      * 📌 비밀번호 암호화(Encoding) 처리를 위한 Bean 등록
-     * @return BCryptPasswordEncoder 객체
+     * BCrypt 해싱은 요청 스레드가 아닌 전용 스레드 풀에서 수행되며, cost는 시작 시 목표 시간에 맞춰 보정됨
+     * @param strength 고정 cost (0이면 시작 시 보정)
+     * @param targetHashMillis 해시 한 번의 목표 시간 (ms)
+     * @param minStrength 보정 시 최소 cost
+     * @param maxStrength 보정 시 최대 cost
+     * @param threads 해싱 스레드 수 (0이면 CPU 코어 수의 절반)
+     * @param queueCapacity 해싱 대기 큐 크기 (가득 차면 즉시 거절)
+     * @param timeoutMillis 해싱 대기 제한 시간 (ms)
+     * @return PasswordEncoder 객체
      */
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${blog.password.strength:0}") int strength,
+                                           @Value("${blog.password.target-hash-ms:250}") long targetHashMillis,
+                                           @Value("${blog.password.min-strength:10}") int minStrength,
+                                           @Value("${blog.password.max-strength:14}") int maxStrength,
+                                           @Value("${blog.password.threads:0}") int threads,
+                                           @Value("${blog.password.queue-capacity:64}") int queueCapacity,
+                                           @Value("${blog.password.timeout-ms:5000}") long timeoutMillis) {
+        int cost = strength > 0
+                ? strength
+                : BoundedPasswordEncoder.calibrateStrength(Duration.ofMillis(targetHashMillis), minStrength, maxStrength);
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(cost), poolSize, queueCapacity,
+                Duration.ofMillis(timeoutMillis));
         // ✅ BCrypt 해싱을 사용하여 비밀번호를 안전하게 암호화
     }
 }
@@ -0,0 +1,47 @@
+package org.example.springdeveloper.config.invalidation;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 여러 애플리케이션 컨텍스트(노드)를 그룹 이름으로 연결하는 전송 계층입니다.
+ * 여러 노드 구성을 한 프로세스 안의 테스트로 재현할 때 사용합니다.
+ */
+public class InJvmInvalidationTransport implements InvalidationTransport {
+
+    private static final Map<String, List<InJvmInvalidationTransport>> GROUPS = new ConcurrentHashMap<>();
+
+    private final String group;
+    private volatile Consumer<ByteBuffer> receiver;
+
+    public InJvmInvalidationTransport(String group) {
+        this.group = group;
+    }
+
+    @Override
+    public void start(Consumer<ByteBuffer> receiver) {
+        this.receiver = receiver;
+        GROUPS.computeIfAbsent(group, key -> new CopyOnWriteArrayList<>()).add(this);
+    }
+
+    @Override
+    public void send(ByteBuffer message) {
+        for (InJvmInvalidationTransport member : GROUPS.getOrDefault(group, List.of())) {
+            if (member != this) {
+                member.receiver.accept(message.asReadOnlyBuffer());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        GROUPS.computeIfPresent(group, (key, members) -> {
+            members.remove(this);
+            return members.isEmpty() ? null : members;
+        });
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.springdeveloper.config.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 📌 노드 간 캐시 무효화 버스
+ * 엔티티가 바뀌면 로컬 캐시는 즉시 비우고, 다른 노드로 보낼 (종류, id, 버전) 메시지는 모아 두었다가
+ * 짧은 주기마다 한 번에 보냄. 같은 항목이 여러 번 바뀌어도 주기당 최신 버전 하나만 보냄(중복 제거).
+ *
+ * 메시지 유실 복구:
+ * - 묶음마다 노드별 순번을 붙이고, 받는 쪽은 순번이 건너뛰면 모든 캐시를 비움
+ * - 보낼 것이 없어도 일정 시간마다 빈 묶음(하트비트)을 보내 마지막 묶음의 유실도 감지함
+ * - 에포크 주기마다 로컬 캐시 전체를 비우고 에포크를 올려, 감지하지 못한 유실도 그 주기 안에 복구됨
+ */
+@Slf4j
+public class InvalidationBus implements InitializingBean, DisposableBean {
+
+    private static final int MAGIC = 0x424C4F47; // "BLOG"
+
+    private final InvalidationTransport transport;
+    private final Map<String, InvalidationListener> listeners;
+    private final int maxBatchSize;
+    private final long heartbeatNanos;
+    private final long nodeId = ThreadLocalRandom.current().nextLong();
+
+    private final Map<PendingKey, Long> pending = new ConcurrentHashMap<>(); // 아직 보내지 않은 항목 -> 최신 버전
+    private final Map<Long, PeerState> peers = new ConcurrentHashMap<>(); // 다른 노드별 마지막으로 받은 에포크와 순번
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong resets = new AtomicLong();
+
+    // 아래 두 값은 flush와 resetEpoch(같은 스케줄러 스레드, synchronized)에서만 변경
+    private long epoch;
+    private long sequence;
+    private long lastSentNanos = System.nanoTime();
+
+    public InvalidationBus(InvalidationTransport transport, List<InvalidationListener> listeners,
+                           int maxBatchSize, long heartbeatMillis) {
+        this.transport = transport;
+        this.listeners = listeners.stream()
+                .collect(Collectors.toMap(InvalidationListener::entityType, Function.identity()));
+        this.maxBatchSize = maxBatchSize;
+        this.heartbeatNanos = heartbeatMillis * 1_000_000;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        transport.start(this::receive);
+    }
+
+    /**
+     * 엔티티 변경을 알립니다. 트랜잭션 안에서 호출하면 커밋된 뒤에 처리합니다.
+     * (커밋 전에 캐시를 비우면 다른 요청이 이전 값을 다시 캐시에 넣을 수 있음)
+     *
+     * @param entityType 엔티티 종류
+     * @param id 변경된 엔티티의 id
+     */
+    public void publish(String entityType, long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(entityType, id);
+                }
+            });
+        } else {
+            publishNow(entityType, id);
+        }
+    }
+
+    /**
+     * 모아 둔 메시지를 묶음으로 보냅니다. 보낼 것이 없어도 하트비트 시간이 지났으면 빈 묶음을 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${blog.invalidation.batch-interval-ms:50}")
+    public synchronized void flush() {
+        List<Map.Entry<PendingKey, Long>> batch = new ArrayList<>();
+        for (Map.Entry<PendingKey, Long> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(entry);
+            }
+        }
+        if (batch.isEmpty() && System.nanoTime() - lastSentNanos < heartbeatNanos) {
+            return;
+        }
+        int from = 0;
+        do { // ✅ 데이터그램 하나의 크기를 넘지 않도록 나눠 보냄
+            int to = Math.min(batch.size(), from + maxBatchSize);
+            transport.send(encode(batch.subList(from, to)));
+            sent.addAndGet(to - from);
+            from = to;
+        } while (from < batch.size());
+        lastSentNanos = System.nanoTime();
+    }
+
+    /**
+     * 로컬 캐시 전체를 비우고 새 에포크를 시작합니다.
+     */
+    @Scheduled(initialDelayString = "${blog.invalidation.epoch-reset-interval-ms:300000}",
+            fixedDelayString = "${blog.invalidation.epoch-reset-interval-ms:300000}")
+    public synchronized void resetEpoch() {
+        epoch++;
+        sequence = 0;
+        listeners.values().forEach(InvalidationListener::epochReset);
+        log.debug("Started invalidation epoch {}", epoch);
+    }
+
+    /**
+     * 다른 노드에서 받은 묶음을 처리합니다.
+     */
+    void receive(ByteBuffer message) {
+        try {
+            if (message.getInt() != MAGIC) {
+                return;
+            }
+            long sender = message.getLong();
+            if (sender == nodeId) {
+                return;
+            }
+            long senderEpoch = message.getLong();
+            long senderSequence = message.getLong();
+            if (!acceptSequence(sender, senderEpoch, senderSequence)) {
+                return;
+            }
+            int count = message.getShort() & 0xFFFF;
+            for (int i = 0; i < count; i++) {
+                byte[] type = new byte[message.get() & 0xFF];
+                message.get(type);
+                long id = message.getLong();
+                long version = message.getLong();
+                InvalidationListener listener = listeners.get(new String(type, StandardCharsets.UTF_8));
+                if (listener != null) {
+                    listener.invalidate(id, version);
+                }
+            }
+            received.addAndGet(count);
+        } catch (BufferUnderflowException e) {
+            log.warn("Dropped truncated invalidation message");
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getReceived() {
+        return received.get();
+    }
+
+    // 유실 감지로 캐시 전체를 비운 횟수
+    public long getResets() {
+        return resets.get();
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        transport.close();
+    }
+
+    private void publishNow(String entityType, long id) {
+        long version = System.currentTimeMillis();
+        InvalidationListener listener = listeners.get(entityType);
+        if (listener != null) {
+            listener.invalidate(id, version);
+        }
+        pending.merge(new PendingKey(entityType, id), version, Math::max);
+    }
+
+    // 순번이 이어지면 true, 중복이면 false. 건너뛴 순번이 있으면 유실로 보고 캐시 전체를 비운 뒤 true
+    private boolean acceptSequence(long sender, long senderEpoch, long senderSequence) {
+        PeerState previous = peers.put(sender, new PeerState(senderEpoch, senderSequence));
+        if (previous == null) {
+            return true; // 처음 보는 노드 (새로 시작한 노드이므로 놓친 메시지가 없음)
+        }
+        boolean lost;
+        if (senderEpoch != previous.epoch()) {
+            lost = senderEpoch < previous.epoch() || senderSequence != 0;
+        } else if (senderSequence <= previous.sequence()) {
+            peers.put(sender, previous);
+            return false;
+        } else {
+            lost = senderSequence != previous.sequence() + 1;
+        }
+        if (lost) {
+            log.info("Lost invalidation messages from node {}, clearing local caches", Long.toHexString(sender));
+            resets.incrementAndGet();
+            invalidateAll();
+        }
+        return true;
+    }
+
+    private void invalidateAll() {
+        listeners.values().forEach(InvalidationListener::invalidateAll);
+    }
+
+    // [magic][노드 id][에포크][순번][항목 수] 다음에 항목마다 [종류 길이][종류][id][버전]
+    private ByteBuffer encode(List<Map.Entry<PendingKey, Long>> entries) {
+        List<byte[]> types = new ArrayList<>(entries.size());
+        int size = 4 + 8 + 8 + 8 + 2;
+        for (Map.Entry<PendingKey, Long> entry : entries) {
+            byte[] type = entry.getKey().entityType().getBytes(StandardCharsets.UTF_8);
+            types.add(type);
+            size += 1 + type.length + 8 + 8;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size)
+                .putInt(MAGIC)
+                .putLong(nodeId)
+                .putLong(epoch)
+                .putLong(sequence++)
+                .putShort((short) entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            buffer.put((byte) types.get(i).length)
+                    .put(types.get(i))
+                    .putLong(entries.get(i).getKey().id())
+                    .putLong(entries.get(i).getValue());
+        }
+        return buffer.flip();
+    }
+
+    private record PendingKey(String entityType, long id) {
+    }
+
+    private record PeerState(long epoch, long sequence) {
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.springdeveloper.config.invalidation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 📌 노드 간 캐시 무효화 설정
+ * blog.invalidation.transport
+ * - none: 단일 노드 (로컬 캐시만 비움)
+ * - in-jvm: 같은 JVM의 다른 컨텍스트와 연결 (테스트용)
+ * - udp: 피어 주소로 UDP 전송 (루프백 주소와 노드별 포트로 한 장비에서 여러 노드 시험 가능)
+ */
+@Configuration
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationTransport invalidationTransport(@Value("${blog.invalidation.transport:none}") String transport,
+                                                       @Value("${blog.invalidation.in-jvm.group:blog}") String group,
+                                                       @Value("${blog.invalidation.udp.bind:127.0.0.1:47100}") String bind,
+                                                       @Value("${blog.invalidation.udp.peers:}") String peers) {
+        return switch (transport) {
+            case "none" -> InvalidationTransport.none();
+            case "in-jvm" -> new InJvmInvalidationTransport(group);
+            case "udp" -> new UdpInvalidationTransport(address(bind), Arrays.stream(peers.split(","))
+                    .map(String::trim)
+                    .filter(peer -> !peer.isEmpty())
+                    .map(InvalidationConfig::address)
+                    .toList());
+            default -> throw new IllegalArgumentException("unknown invalidation transport: " + transport);
+        };
+    }
+
+    @Bean
+    public InvalidationBus invalidationBus(InvalidationTransport invalidationTransport,
+                                           List<InvalidationListener> listeners,
+                                           @Value("${blog.invalidation.max-batch-size:512}") int maxBatchSize,
+                                           @Value("${blog.invalidation.heartbeat-interval-ms:1000}") long heartbeatMillis) {
+        return new InvalidationBus(invalidationTransport, listeners, maxBatchSize, heartbeatMillis);
+    }
+
+    // "host:port" 형식의 주소
+    private static InetSocketAddress address(String hostAndPort) {
+        int colon = hostAndPort.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("invalid address (host:port): " + hostAndPort);
+        }
+        return new InetSocketAddress(hostAndPort.substring(0, colon), Integer.parseInt(hostAndPort.substring(colon + 1)));
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.springdeveloper.config.invalidation;
+
+/**
+ * 무효화 메시지를 받아 로컬 캐시를 비우는 대상입니다. (엔티티 종류마다 하나)
+ */
+public interface InvalidationListener {
+
+    /**
+     * 이 리스너가 담당하는 엔티티 종류 (예: "article")
+     */
+    String entityType();
+
+    /**
+     * 주어진 id의 캐시 항목을 버립니다.
+     *
+     * @param id 변경된 엔티티의 id
+     * @param version 변경 시점 (밀리초 단위 시각)
+     */
+    void invalidate(long id, long version);
+
+    /**
+     * 모든 캐시 항목을 버립니다. (메시지 유실이 감지된 경우)
+     */
+    void invalidateAll();
+
+    /**
+     * 주기적 에포크 초기화 때 호출됩니다. 감지하지 못한 유실을 복구하기 위한 것으로, 기본 동작은 invalidateAll과 같습니다.
+     * 실제 유실이 있었다는 뜻은 아니므로, 다시 채우는 비용이 크고 다른 방법으로 유실에 대비하는 대상은 무시할 수 있습니다.
+     */
+    default void epochReset() {
+        invalidateAll();
+    }
+}
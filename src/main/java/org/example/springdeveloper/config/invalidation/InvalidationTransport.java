@@ -0,0 +1,43 @@
+package org.example.springdeveloper.config.invalidation;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 노드 사이에 무효화 메시지 묶음을 전달하는 전송 계층입니다.
+ * 전달 보장은 필요 없으며, 유실은 InvalidationBus가 순번 검사와 에포크 초기화로 복구합니다.
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    /**
+     * 다른 노드에서 온 메시지를 받기 시작합니다.
+     */
+    void start(Consumer<ByteBuffer> receiver);
+
+    /**
+     * 메시지 하나를 다른 모든 노드로 보냅니다.
+     */
+    void send(ByteBuffer message);
+
+    @Override
+    void close();
+
+    /**
+     * 단일 노드용 전송 계층 (아무 곳에도 보내지 않음)
+     */
+    static InvalidationTransport none() {
+        return new InvalidationTransport() {
+            @Override
+            public void start(Consumer<ByteBuffer> receiver) {
+            }
+
+            @Override
+            public void send(ByteBuffer message) {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.springdeveloper.config.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * UDP 데이터그램으로 정해진 피어 주소들에 메시지를 보내는 전송 계층입니다.
+ * 루프백 주소와 노드별 포트를 지정하면 한 대의 리눅스 장비에서 여러 노드를 띄워 시험할 수 있습니다.
+ */
+@Slf4j
+public class UdpInvalidationTransport implements InvalidationTransport {
+
+    private static final int MAX_DATAGRAM_SIZE = 65_507;
+
+    private final InetSocketAddress bindAddress;
+    private final List<InetSocketAddress> peers;
+    private DatagramChannel channel;
+    private Thread receiverThread;
+
+    public UdpInvalidationTransport(InetSocketAddress bindAddress, List<InetSocketAddress> peers) {
+        this.bindAddress = bindAddress;
+        this.peers = peers;
+    }
+
+    @Override
+    public void start(Consumer<ByteBuffer> receiver) {
+        try {
+            channel = DatagramChannel.open().bind(bindAddress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to bind invalidation socket " + bindAddress, e);
+        }
+        receiverThread = new Thread(() -> receive(receiver), "invalidation-udp");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+        log.info("Invalidation transport listening on udp {} with peers {}", bindAddress, peers);
+    }
+
+    @Override
+    public void send(ByteBuffer message) {
+        for (InetSocketAddress peer : peers) {
+            try {
+                channel.send(message.duplicate(), peer);
+            } catch (IOException e) {
+                // 유실된 메시지는 받는 쪽의 순번 검사로 감지되므로 기록만 함
+                log.debug("Failed to send invalidation message to {}", peer, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (channel != null) {
+                channel.close(); // 수신 스레드의 receive가 예외로 끝남
+            }
+        } catch (IOException e) {
+            log.debug("Failed to close invalidation socket", e);
+        }
+    }
+
+    private void receive(Consumer<ByteBuffer> receiver) {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_DATAGRAM_SIZE);
+        while (channel.isOpen()) {
+            try {
+                buffer.clear();
+                channel.receive(buffer);
+                buffer.flip();
+                receiver.accept(buffer);
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to receive invalidation message", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.springdeveloper.config.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관측된 응답 시간으로 동시 처리 한도를 조절하는 적응형 동시성 제한기입니다. (gradient 방식)
+ *
+ * 짧은 구간의 평균 응답 시간(shortRtt)이 장기 기준선(longRtt)보다 길어지면 큐가 쌓이고 있다는 뜻이므로
+ * 한도를 longRtt / shortRtt 비율만큼 줄이고, 응답 시간이 기준선 수준이면 sqrt(limit)만큼 늘립니다.
+ * 한도를 넘는 요청은 기다리게 하지 않고 즉시 거절하여, 과부하에서도 처리 중인 요청의 응답 시간을 지킵니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final long WINDOW_NANOS = 100_000_000L; // 한도를 다시 계산하는 최소 간격 (100ms)
+    private static final int WINDOW_MIN_SAMPLES = 10;      // 한도 계산에 필요한 최소 표본 수
+    private static final double LONG_RTT_ALPHA = 0.05;     // 장기 기준선의 지수 이동 평균 가중치
+    private static final double SMOOTHING = 0.2;           // 새 한도를 반영하는 비율
+    private static final double TOLERANCE = 1.5;           // 기준선 대비 이 정도 지연까지는 정상으로 봄
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+
+    // 아래 필드는 this 잠금 안에서만 접근
+    private long windowStart = System.nanoTime();
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 처리 슬롯을 얻습니다. 한도에 도달했으면 기다리지 않고 false를 반환합니다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 슬롯을 반납하고 응답 시간을 표본으로 기록합니다.
+     * @param rttNanos 요청 처리에 걸린 시간
+     */
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        synchronized (this) {
+            windowRttSum += rttNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+            long now = System.nanoTime();
+            if (windowSamples >= WINDOW_MIN_SAMPLES && now - windowStart >= WINDOW_NANOS) {
+                updateLimit((double) windowRttSum / windowSamples);
+                windowStart = now;
+                windowRttSum = 0;
+                windowSamples = 0;
+                windowMaxInFlight = 0;
+            }
+        }
+    }
+
+    private void updateLimit(double shortRtt) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+            return;
+        }
+        longRtt = longRtt * (1 - LONG_RTT_ALPHA) + shortRtt * LONG_RTT_ALPHA;
+        // 부하가 줄어 응답 시간이 기준선보다 훨씬 짧아지면 기준선을 빠르게 따라 내려감
+        if (longRtt / shortRtt > 2) {
+            longRtt = shortRtt * 2;
+        }
+
+        double current = limit;
+        // 한도의 절반도 쓰지 않고 있으면 응답 시간이 좋아도 한도를 늘리지 않음 (근거 없는 증가 방지)
+        if (windowMaxInFlight < current / 2 && shortRtt <= longRtt) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
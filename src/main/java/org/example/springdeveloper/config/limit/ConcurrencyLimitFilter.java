@@ -0,0 +1,78 @@
+package org.example.springdeveloper.config.limit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 요청을 조회·쓰기·인증으로 분류하고, 종류별 적응형 동시성 제한기를 통과한 요청만 처리하는 필터입니다.
+ * 한도를 넘는 요청은 톰캣 스레드에서 기다리지 않고 즉시 503 Service Unavailable로 거절됩니다.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final List<String> AUTH_PATHS = List.of("/login", "/signup", "/user", "/logout");
+    private static final List<String> EXCLUDED_PREFIXES = List.of("/js/", "/css/", "/img/", "/h2-console", "/error",
+            "/actuator/"); // 과부하 중에도 liveness/readiness 프로브는 거절하지 않음
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final AdaptiveConcurrencyLimiter authLimiter;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+        this.readLimiter = limiter("read", properties.getRead());
+        this.writeLimiter = limiter("write", properties.getWrite());
+        this.authLimiter = limiter("auth", properties.getAuth());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = classify(request);
+        if (!limiter.tryAcquire()) {
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "too many concurrent " + limiter.getName() + " requests");
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - startedAt);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return EXCLUDED_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    /**
+     * 종류별 제한기의 현재 상태를 반환합니다.
+     */
+    public List<AdaptiveConcurrencyLimiter> limiters() {
+        return List.of(readLimiter, writeLimiter, authLimiter);
+    }
+
+    private AdaptiveConcurrencyLimiter classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (AUTH_PATHS.contains(path)) {
+            return authLimiter;
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return readLimiter;
+        }
+        return writeLimiter;
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(String name, ConcurrencyLimitProperties.Limit limit) {
+        return new AdaptiveConcurrencyLimiter(name, limit.getInitial(), limit.getMin(), limit.getMax());
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.springdeveloper.config.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 📌 요청 종류별 동시성 제한 설정 (blog.concurrency-limit.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "blog.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private Limit read = new Limit(100, 10, 400);  // ✅ 조회 요청 (GET/HEAD)
+    private Limit write = new Limit(40, 4, 200);   // ✅ 생성·수정·삭제 요청
+    private Limit auth = new Limit(8, 1, 32);      // ✅ 로그인·회원가입 (비밀번호 해싱으로 CPU를 많이 씀)
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int initial;
+        private int min;
+        private int max;
+
+        public Limit() {
+        }
+
+        public Limit(int initial, int min, int max) {
+            this.initial = initial;
+            this.min = min;
+            this.max = max;
+        }
+    }
+}
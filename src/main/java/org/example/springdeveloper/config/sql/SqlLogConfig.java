@@ -0,0 +1,45 @@
+package org.example.springdeveloper.config.sql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 📌 비동기 SQL 로그 설정
+ * show-sql(모든 문장을 요청 스레드에서 바로 출력) 대신 느린 문장과 표본만 로그에 남기고, 나머지는 집계만 함
+ */
+@Configuration
+@ConditionalOnProperty(name = "blog.sql-log.enabled", matchIfMissing = true)
+public class SqlLogConfig {
+
+    @Bean
+    public SqlStatementLog sqlStatementLog(@Value("${blog.sql-log.slow-threshold-ms:100}") long slowThresholdMillis,
+                                           @Value("${blog.sql-log.sample-rate:0}") double sampleRate,
+                                           @Value("${blog.sql-log.capture-parameters:false}") boolean captureParameters,
+                                           @Value("${blog.sql-log.max-distinct-queries:1000}") int maxDistinctQueries,
+                                           @Value("${blog.sql-log.queue-capacity:10000}") int queueCapacity) {
+        return new SqlStatementLog(slowThresholdMillis * 1_000_000, sampleRate, captureParameters,
+                maxDistinctQueries, queueCapacity);
+    }
+
+    /**
+     * 📌 DataSource 빈을 시간 측정 프록시로 감쌈
+     * BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 선언하고, 로그 빈은 감쌀 때 찾음
+     */
+    @Bean
+    public static BeanPostProcessor sqlTimingDataSourcePostProcessor(ObjectProvider<SqlStatementLog> sqlStatementLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource
+                        ? SqlTimingDataSource.wrap(dataSource, sqlStatementLog.getObject())
+                        : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.springdeveloper.config.sql;
+
+/**
+ * 정규화된 쿼리 하나의 실행 집계입니다. 시간 단위는 밀리초입니다.
+ */
+public record SqlQueryStats(String query, long count, long errors,
+                            double totalMillis, double averageMillis, double maxMillis) {
+}
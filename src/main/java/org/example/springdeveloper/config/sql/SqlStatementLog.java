@@ -0,0 +1,203 @@
+package org.example.springdeveloper.config.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 📌 실행된 SQL의 소요 시간을 집계하고, 느리거나 표본으로 뽑힌 문장만 비동기로 로그에 남김
+ * 요청 스레드는 카운터 갱신과 큐에 넣는 일만 하며, 문자열 조립과 로그 출력은 전용 스레드에서 처리함
+ */
+@Slf4j
+public class SqlStatementLog implements DisposableBean {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int VISIBLE_PREFIX_LENGTH = 2;
+    private static final String OTHER_QUERIES = "(other)";
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final boolean captureParameters;
+    private final int maxDistinctQueries;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder dropped = new LongAdder();
+
+    // 원문 SQL -> 정규화된 SQL의 집계 (하이버네이트는 바인드 변수를 쓰므로 원문 종류가 적어 정규화는 처음 한 번만 함)
+    private final Map<String, QueryStats> statsBySql = new ConcurrentHashMap<>();
+    private final Map<String, QueryStats> statsByQuery = new ConcurrentHashMap<>();
+
+    public SqlStatementLog(long slowThresholdNanos, double sampleRate, boolean captureParameters,
+                           int maxDistinctQueries, int queueCapacity) {
+        this(slowThresholdNanos, sampleRate, captureParameters, maxDistinctQueries, queueCapacity, runnable -> {
+            Thread thread = new Thread(runnable, "sql-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    SqlStatementLog(long slowThresholdNanos, double sampleRate, boolean captureParameters,
+                    int maxDistinctQueries, int queueCapacity, ThreadFactory threadFactory) {
+        this.slowThresholdNanos = slowThresholdNanos;
+        this.sampleRate = sampleRate;
+        this.captureParameters = captureParameters;
+        this.maxDistinctQueries = maxDistinctQueries;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                (runnable, executor) -> dropped.increment()); // ✅ 큐가 가득 차면 요청 스레드를 막지 않고 버림
+    }
+
+    /**
+     * 파라미터를 기록해야 하는지 여부 (문장 실행 전에 결정)
+     */
+    boolean capturesParameters() {
+        return captureParameters;
+    }
+
+    /**
+     * 문장 한 번의 실행을 기록합니다.
+     *
+     * @param sql 실행한 SQL (바인드 변수 포함)
+     * @param elapsedNanos 실행 시간
+     * @param parameters 바인드 파라미터 (기록하지 않았으면 null)
+     * @param failed 예외로 끝났는지 여부
+     */
+    void record(String sql, long elapsedNanos, List<Object> parameters, boolean failed) {
+        stats(sql).add(elapsedNanos, failed);
+
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        if (!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        List<Object> captured = slow && parameters != null ? new ArrayList<>(parameters) : null; // null 값이 있을 수 있음
+        executor.execute(() -> write(sql, elapsedNanos, captured, slow, failed));
+    }
+
+    /**
+     * 정규화된 쿼리별 집계를 총 소요 시간이 큰 순서로 반환합니다.
+     */
+    public List<SqlQueryStats> queryStats() {
+        List<SqlQueryStats> result = new ArrayList<>(statsByQuery.size());
+        statsByQuery.forEach((query, stats) -> result.add(stats.snapshot(query)));
+        result.sort(Comparator.comparingDouble(SqlQueryStats::totalMillis).reversed());
+        return result;
+    }
+
+    /**
+     * 큐가 가득 차서 기록하지 못한 로그 수
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS); // ✅ 종료 시 남은 로그를 가능한 만큼 출력
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return IN_LIST.matcher(normalized).replaceAll("(?...)");
+    }
+
+    private QueryStats stats(String sql) {
+        QueryStats stats = statsBySql.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        String query = normalize(sql);
+        // 리터럴이 섞인 SQL이 끝없이 늘어나도 메모리가 커지지 않도록 종류 수를 제한
+        if (statsByQuery.size() >= maxDistinctQueries && !statsByQuery.containsKey(query)) {
+            query = OTHER_QUERIES;
+        }
+        stats = statsByQuery.computeIfAbsent(query, key -> new QueryStats());
+        if (statsBySql.size() < maxDistinctQueries) {
+            statsBySql.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    private static void write(String sql, long elapsedNanos, List<Object> parameters, boolean slow, boolean failed) {
+        String statement = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        String status = failed ? "failed" : slow ? "slow" : "sampled";
+        if (parameters == null) {
+            log.info("[{}] {} ms: {}", status, elapsedNanos / 1_000_000.0, statement);
+        } else {
+            log.info("[{}] {} ms: {} {}", status, elapsedNanos / 1_000_000.0, statement, formatParameters(parameters));
+        }
+    }
+
+    /**
+     * 바인드 파라미터를 로그용 문자열로 만듭니다.
+     * 이메일·비밀번호 해시·본문 같은 값이 로그에 남지 않도록 숫자·불리언·날짜만 그대로 쓰고,
+     * 문자열은 앞 두 글자와 길이만, 나머지는 타입만 남깁니다.
+     */
+    static String formatParameters(List<Object> parameters) {
+        StringBuilder out = new StringBuilder("[");
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(mask(parameters.get(i)));
+        }
+        return out.append(']').toString();
+    }
+
+    private static String mask(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean
+                || value instanceof Temporal || value instanceof Date) {
+            return String.valueOf(value);
+        }
+        if (value instanceof CharSequence text) {
+            String prefix = text.length() > VISIBLE_PREFIX_LENGTH
+                    ? text.subSequence(0, VISIBLE_PREFIX_LENGTH).toString() : "";
+            return "'" + prefix + "***'(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    private static final class QueryStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void add(long elapsedNanos, boolean failed) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            if (failed) {
+                errors.increment();
+            }
+            long max = maxNanos.get();
+            while (elapsedNanos > max && !maxNanos.compareAndSet(max, elapsedNanos)) {
+                max = maxNanos.get();
+            }
+        }
+
+        SqlQueryStats snapshot(String query) {
+            long executions = count.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new SqlQueryStats(query, executions, errors.sum(), total,
+                    executions == 0 ? 0 : total / executions, maxNanos.get() / 1_000_000.0);
+        }
+    }
+}
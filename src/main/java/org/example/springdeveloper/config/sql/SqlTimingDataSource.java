@@ -0,0 +1,125 @@
+package org.example.springdeveloper.config.sql;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource를 JDK 동적 프록시로 감싸, 커넥션에서 만든 Statement의 실행 시간을 SqlStatementLog에 기록합니다.
+ * 커넥션 풀(Hikari) 바깥을 감싸므로 풀 동작에는 영향이 없고, unwrap 등 나머지 호출은 그대로 위임합니다.
+ */
+final class SqlTimingDataSource {
+
+    private SqlTimingDataSource() {
+    }
+
+    static DataSource wrap(DataSource dataSource, SqlStatementLog statementLog) {
+        // 풀이 AutoCloseable이면 프록시도 구현해야 컨텍스트 종료 시 풀이 닫힘
+        Class<?>[] types = dataSource instanceof AutoCloseable
+                ? new Class<?>[]{DataSource.class, AutoCloseable.class}
+                : new Class<?>[]{DataSource.class};
+        return (DataSource) proxy(types, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection
+                    ? wrapConnection(connection, statementLog)
+                    : result;
+        });
+    }
+
+    private static Connection wrapConnection(Connection connection, SqlStatementLog statementLog) {
+        return (Connection) proxy(new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement/prepareCall은 첫 인자가 SQL, createStatement는 실행 시점에 SQL을 받음
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrapStatement(method.getReturnType(), statement, sql, statementLog);
+            }
+            return result;
+        });
+    }
+
+    private static Object wrapStatement(Class<?> type, Statement statement, String sql, SqlStatementLog statementLog) {
+        Class<?> statementType = type == CallableStatement.class || type == PreparedStatement.class
+                ? type : Statement.class;
+        return proxy(new Class<?>[]{statementType}, new StatementHandler(statement, sql, statementLog));
+    }
+
+    private static Object proxy(Class<?>[] types, InvocationHandler handler) {
+        return Proxy.newProxyInstance(SqlTimingDataSource.class.getClassLoader(), types,
+                (proxy, method, args) -> switch (method.getName()) {
+                    // 프록시 자체를 키로 쓰는 경우를 위해 동일성 비교는 프록시 기준으로 처리
+                    case "equals" -> method.getParameterCount() == 1 ? proxy == args[0] : handler.invoke(proxy, method, args);
+                    case "hashCode" -> method.getParameterCount() == 0 ? System.identityHashCode(proxy) : handler.invoke(proxy, method, args);
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final SqlStatementLog statementLog;
+        private final List<Object> parameters; // 기록하지 않으면 null
+        private String sql;
+
+        StatementHandler(Statement statement, String sql, SqlStatementLog statementLog) {
+            this.statement = statement;
+            this.sql = sql;
+            this.statementLog = statementLog;
+            this.parameters = sql != null && statementLog.capturesParameters() ? new ArrayList<>() : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (parameters != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                setParameter(index, name.equals("setNull") ? null : args[1]);
+            } else if (parameters != null && name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch") && args != null && args.length == 1 && args[0] instanceof String batchSql) {
+                sql = batchSql;
+            }
+            return SqlTimingDataSource.invoke(statement, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String executed = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+            boolean failed = true;
+            long start = System.nanoTime();
+            try {
+                Object result = SqlTimingDataSource.invoke(statement, method, args);
+                failed = false;
+                return result;
+            } finally {
+                if (executed != null) {
+                    statementLog.record(executed, System.nanoTime() - start, parameters, failed);
+                }
+            }
+        }
+
+        private void setParameter(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+    }
+}
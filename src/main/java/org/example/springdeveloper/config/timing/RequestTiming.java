@@ -0,0 +1,147 @@
+package org.example.springdeveloper.config.timing;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * 요청 하나의 단계별 소요 시간을 기록합니다.
+ * 필터가 요청 스레드에 연결하고, 인터셉터·서비스 애스펙트가 단계 경계마다 System.nanoTime()만 기록하므로 비용이 매우 작습니다.
+ *
+ * <ul>
+ *     <li>sec: 필터 체인(스프링 시큐리티 포함)을 지나 컨트롤러에 도달하기까지</li>
+ *     <li>svc: 서비스 계층 호출 (하이버네이트·DB 시간 포함)</li>
+ *     <li>app: 컨트롤러에서 서비스 호출을 뺀 시간 (DTO 변환 등)</li>
+ *     <li>render: 뷰 렌더링 또는 응답 본문 직렬화·전송</li>
+ * </ul>
+ */
+public class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final String method;
+    private final String uri;
+
+    private long handlerStartNanos;
+    private long handlerEndNanos;
+    private long endNanos;
+    private long serviceNanos;
+    private long serviceEnterNanos;
+    private int serviceDepth;
+    private int serviceCalls;
+
+    private RequestTiming(String method, String uri) {
+        this.method = method;
+        this.uri = uri;
+    }
+
+    /**
+     * 요청 시작을 기록하고 현재 스레드에 연결합니다.
+     */
+    static RequestTiming start(String method, String uri) {
+        RequestTiming timing = new RequestTiming(method, uri);
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * 현재 스레드에서 처리 중인 요청의 기록을 반환합니다. 요청 밖(스케줄러 등)에서는 null입니다.
+     */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    void detach() {
+        CURRENT.remove();
+    }
+
+    void markHandlerStart() {
+        if (handlerStartNanos == 0) {
+            handlerStartNanos = System.nanoTime();
+        }
+    }
+
+    void markHandlerEnd() {
+        if (handlerEndNanos == 0) {
+            handlerEndNanos = System.nanoTime();
+        }
+    }
+
+    void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    // 서비스 안에서 다른 서비스를 호출해도 가장 바깥 호출 시간만 한 번 집계
+    void enterService() {
+        if (serviceDepth++ == 0) {
+            serviceEnterNanos = System.nanoTime();
+        }
+    }
+
+    void exitService() {
+        if (--serviceDepth == 0) {
+            serviceNanos += System.nanoTime() - serviceEnterNanos;
+            serviceCalls++;
+        }
+    }
+
+    /**
+     * 지금까지 끝난 단계로 Server-Timing 헤더 값을 만듭니다. (응답 본문을 쓰기 직전에 호출)
+     */
+    String serverTimingHeader() {
+        long now = System.nanoTime();
+        StringBuilder header = new StringBuilder(96);
+        appendMetric(header, "sec", securityNanos(now), "filters+security");
+        appendMetric(header, "svc", serviceNanos, "service+db");
+        appendMetric(header, "app", applicationNanos(now), "controller+mapping");
+        appendMetric(header, "total", now - startNanos, null);
+        return header.toString();
+    }
+
+    /**
+     * 요청이 끝난 뒤 보관용 추적 기록으로 변환합니다.
+     */
+    RequestTrace toTrace(int status) {
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        long handlerEnd = handlerEndNanos != 0 ? handlerEndNanos : end;
+        return new RequestTrace(startedAt, method, uri, status,
+                micros(end - startNanos),
+                micros(securityNanos(end)),
+                micros(serviceNanos),
+                micros(applicationNanos(end)),
+                micros(handlerStartNanos == 0 ? 0 : end - handlerEnd),
+                serviceCalls);
+    }
+
+    long totalNanos() {
+        return (endNanos != 0 ? endNanos : System.nanoTime()) - startNanos;
+    }
+
+    // 컨트롤러에 도달하지 못한 요청(로그인 리다이렉트 등)은 전체를 필터 시간으로 봄
+    private long securityNanos(long now) {
+        return (handlerStartNanos != 0 ? handlerStartNanos : now) - startNanos;
+    }
+
+    private long applicationNanos(long now) {
+        if (handlerStartNanos == 0) {
+            return 0;
+        }
+        long handlerEnd = handlerEndNanos != 0 ? handlerEndNanos : now;
+        return Math.max(0, handlerEnd - handlerStartNanos - serviceNanos);
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1_000;
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos, String description) {
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0));
+        if (description != null) {
+            header.append(";desc=\"").append(description).append('"');
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.springdeveloper.config.timing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 📌 요청 단계별 시간 측정(Server-Timing 헤더, 표본 추적) 설정
+ */
+@Configuration
+@ConditionalOnProperty(name = "blog.timing.enabled", matchIfMissing = true)
+public class RequestTimingConfig implements WebMvcConfigurer {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    @Bean
+    public RequestTraceBuffer requestTraceBuffer(@Value("${blog.timing.buffer-size:1024}") int bufferSize,
+                                                 @Value("${blog.timing.sample-rate:0.01}") double sampleRate,
+                                                 @Value("${blog.timing.slow-threshold-ms:500}") long slowThresholdMillis) {
+        return new RequestTraceBuffer(bufferSize, sampleRate, slowThresholdMillis * 1_000_000);
+    }
+
+    /**
+     * 📌 동시성 제한 필터와 스프링 시큐리티보다 앞에서 시간 측정을 시작하도록 등록
+     */
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilterRegistration(RequestTraceBuffer requestTraceBuffer) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(requestTraceBuffer));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 20);
+        return registration;
+    }
+
+    @Bean
+    public ServiceTimingAspect serviceTimingAspect() {
+        return new ServiceTimingAspect();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestTimingInterceptor());
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.springdeveloper.config.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 RequestTiming을 시작하고, 끝나면 표본 추출하여 추적 버퍼에 보관하는 필터입니다.
+ */
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final RequestTraceBuffer requestTraceBuffer;
+
+    public RequestTimingFilter(RequestTraceBuffer requestTraceBuffer) {
+        this.requestTraceBuffer = requestTraceBuffer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.start(request.getMethod(), request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            timing.finish();
+            timing.detach();
+            // 본문이 아직 쓰이지 않은 응답(리다이렉트, 빈 응답 등)에는 여기서 헤더를 붙임
+            if (!response.isCommitted() && !response.containsHeader(RequestTimingConfig.SERVER_TIMING)) {
+                response.setHeader(RequestTimingConfig.SERVER_TIMING, timing.serverTimingHeader());
+            }
+            requestTraceBuffer.offer(timing, response.getStatus());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.springdeveloper.config.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 컨트롤러 시작·종료 시점을 기록하는 인터셉터입니다.
+ * 뷰를 반환하는 요청은 렌더링이 시작되기 전(postHandle)에 Server-Timing 헤더를 붙입니다.
+ */
+public class RequestTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.markHandlerStart();
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return;
+        }
+        timing.markHandlerEnd();
+        // 렌더링이 끝나면 응답이 이미 커밋되므로, 렌더링 시간은 추적 기록에만 남음
+        if (!response.isCommitted()) {
+            response.setHeader(RequestTimingConfig.SERVER_TIMING, timing.serverTimingHeader());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.springdeveloper.config.timing;
+
+import java.time.Instant;
+
+/**
+ * 보관된 요청 추적 기록입니다. 시간 단위는 마이크로초입니다.
+ */
+public record RequestTrace(Instant startedAt, String method, String uri, int status,
+                           long totalMicros, long securityMicros, long serviceMicros,
+                           long applicationMicros, long renderMicros, int serviceCalls) {
+}
@@ -0,0 +1,52 @@
+package org.example.springdeveloper.config.timing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 표본 추출된 요청 추적 기록을 보관하는 고정 크기 링 버퍼입니다.
+ * 잠금 없이 기록하며, 가득 차면 가장 오래된 기록을 덮어씁니다.
+ */
+public class RequestTraceBuffer {
+
+    private final AtomicReferenceArray<RequestTrace> traces;
+    private final AtomicLong sequence = new AtomicLong();
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public RequestTraceBuffer(int capacity, double sampleRate, long slowThresholdNanos) {
+        this.traces = new AtomicReferenceArray<>(capacity);
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThresholdNanos;
+    }
+
+    /**
+     * 표본으로 뽑혔거나 느린 요청만 보관합니다.
+     */
+    void offer(RequestTiming timing, int status) {
+        if (timing.totalNanos() < slowThresholdNanos && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        long index = sequence.getAndIncrement();
+        traces.set((int) (index % traces.length()), timing.toTrace(status));
+    }
+
+    /**
+     * 최근 기록부터 최대 limit건을 반환합니다.
+     */
+    public List<RequestTrace> recent(int limit) {
+        long last = sequence.get();
+        long first = Math.max(0, last - Math.min(limit, traces.length()));
+        List<RequestTrace> result = new ArrayList<>((int) (last - first));
+        for (long i = last - 1; i >= first; i--) {
+            RequestTrace trace = traces.get((int) (i % traces.length()));
+            if (trace != null) {
+                result.add(trace);
+            }
+        }
+        return result;
+    }
+}
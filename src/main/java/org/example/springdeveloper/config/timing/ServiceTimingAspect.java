@@ -0,0 +1,26 @@
+package org.example.springdeveloper.config.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * 서비스 계층(*Service 클래스의 public 메서드) 호출 시간을 현재 요청의 svc 단계로 집계합니다.
+ */
+@Aspect
+public class ServiceTimingAspect {
+
+    @Around("execution(public * org.example.springdeveloper.service.*Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return joinPoint.proceed();
+        }
+        timing.enterService();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timing.exitService();
+        }
+    }
+}
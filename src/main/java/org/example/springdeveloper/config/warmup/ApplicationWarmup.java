@@ -0,0 +1,68 @@
+package org.example.springdeveloper.config.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 후 준비 완료를 알리기 전에 주요 경로를 반복 실행해 JIT 컴파일을 미리 끝내는 워밍업 단계입니다.
+ *
+ * ApplicationRunner는 ApplicationReadyEvent 전에 실행되므로, 워밍업이 끝나야 ReadinessState가 ACCEPTING_TRAFFIC으로 바뀌고
+ * /actuator/health/readiness가 UP이 됩니다. 정해진 회차나 제한 시간 중 먼저 도달한 쪽에서 멈추며,
+ * 워밍업이 실패해도 시작은 막지 않고 경고만 남깁니다.
+ */
+@Slf4j
+public class ApplicationWarmup implements ApplicationRunner {
+
+    private final WarmupWorkload workload;
+    private final int iterations;
+    private final long maxDurationNanos;
+
+    private volatile WarmupReport report = new WarmupReport(0, 0, List.of());
+
+    public ApplicationWarmup(WarmupWorkload workload, int iterations, long maxDurationNanos) {
+        this.workload = workload;
+        this.iterations = iterations;
+        this.maxDurationNanos = maxDurationNanos;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startNanos = System.nanoTime();
+        long[] first = new long[3];
+        long[] last = new long[3];
+        int done = 0;
+        try {
+            while (done < iterations && System.nanoTime() - startNanos < maxDurationNanos) {
+                long persistenceStart = System.nanoTime();
+                WarmupWorkload.Scratch scratch = workload.persistence();
+                long serializationStart = System.nanoTime();
+                workload.serialization(scratch);
+                long renderingStart = System.nanoTime();
+                workload.rendering(scratch);
+                long end = System.nanoTime();
+
+                last = new long[]{serializationStart - persistenceStart, renderingStart - serializationStart,
+                        end - renderingStart};
+                if (done == 0) {
+                    first = last;
+                }
+                done++;
+            }
+        } catch (Exception e) {
+            log.warn("Warm-up stopped after {} iterations", done, e);
+        }
+
+        report = new WarmupReport(done, (System.nanoTime() - startNanos) / 1_000_000, List.of(
+                new WarmupReport.Phase("persistence", first[0] / 1_000, last[0] / 1_000),
+                new WarmupReport.Phase("serialization", first[1] / 1_000, last[1] / 1_000),
+                new WarmupReport.Phase("rendering", first[2] / 1_000, last[2] / 1_000)));
+        log.info("Warm-up finished: {}", report);
+    }
+
+    public WarmupReport report() {
+        return report;
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.springdeveloper.config.warmup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 준비 완료(ReadinessState.ACCEPTING_TRAFFIC) 직후 일정 시간 동안의 요청 응답 시간 분포를 기록하는 필터입니다.
+ * 워밍업을 켠 경우와 끈 경우의 p99를 비교해 워밍업 효과를 측정하는 데 씁니다.
+ * 기록 구간이 끝나면 요약을 한 번 로그에 남기고, 그 뒤로는 시간 비교 한 번만 하고 통과시킵니다.
+ *
+ * 분포는 2의 거듭제곱 구간마다 8개의 하위 구간으로 나눈 로그 히스토그램(마이크로초)이라 상대 오차는 12.5% 이내입니다.
+ */
+@Slf4j
+public class StartupLatencyRecorder extends OncePerRequestFilter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS * (64 - SUB_BUCKET_BITS + 1);
+    private static final List<String> EXCLUDED_PREFIXES = List.of("/actuator/"); // 프로브 요청은 사용자 응답 시간이 아님
+
+    private final long windowNanos;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    private volatile long readyAtNanos; // 0이면 아직 준비 전 (워밍업 중 요청은 기록하지 않음)
+    private volatile boolean reported;
+
+    public StartupLatencyRecorder(long windowNanos) {
+        this.windowNanos = windowNanos;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        readyAtNanos = System.nanoTime();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long readyAt = readyAtNanos;
+            if (readyAt != 0 && !reported) {
+                if (startNanos - readyAt < windowNanos) {
+                    record((System.nanoTime() - startNanos) / 1_000);
+                } else {
+                    report();
+                }
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return EXCLUDED_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    /**
+     * 지금까지 기록된 분포를 요약합니다. 기록 구간이 끝나지 않았으면 complete가 false입니다.
+     */
+    public StartupLatency snapshot() {
+        long readyAt = readyAtNanos;
+        long total = count.get();
+        return new StartupLatency(windowNanos / 1_000_000_000,
+                readyAt != 0 && System.nanoTime() - readyAt >= windowNanos,
+                total, percentile(total, 0.5), percentile(total, 0.9), percentile(total, 0.99), maxMicros.get());
+    }
+
+    private void record(long micros) {
+        buckets.incrementAndGet(bucket(micros));
+        count.incrementAndGet();
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    private synchronized void report() {
+        if (!reported) {
+            reported = true;
+            StartupLatency latency = snapshot();
+            log.info("First {}s after ready: {} requests, p50={}us p90={}us p99={}us max={}us",
+                    latency.windowSeconds(), latency.count(), latency.p50Micros(), latency.p90Micros(),
+                    latency.p99Micros(), latency.maxMicros());
+        }
+    }
+
+    // 순위가 total * ratio인 값이 든 구간의 상한
+    private long percentile(long total, double ratio) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * ratio));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(0, micros);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros); // >= SUB_BUCKET_BITS
+        int shift = exponent - SUB_BUCKET_BITS;
+        return SUB_BUCKETS * (shift + 1) + (int) ((micros >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = SUB_BUCKETS + bucket % SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * 준비 완료 후 windowSeconds초 동안의 요청 응답 시간 요약 (마이크로초)
+     */
+    public record StartupLatency(long windowSeconds, boolean complete, long count,
+                                 long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+    }
+}
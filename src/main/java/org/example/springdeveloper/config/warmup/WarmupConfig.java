@@ -0,0 +1,82 @@
+package org.example.springdeveloper.config.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.example.springdeveloper.service.BlogService;
+import org.example.springdeveloper.service.CommentService;
+import org.example.springdeveloper.service.TagService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.dialect.IDialect;
+import org.thymeleaf.linkbuilder.StandardLinkBuilder;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+
+import java.util.Map;
+
+/**
+ * 📌 시작 직후 JIT 워밍업과 준비 완료 후 첫 구간 응답 시간 측정 설정
+ */
+@Configuration
+public class WarmupConfig {
+
+    /**
+     * 📌 준비 완료 후 measure-window-seconds 동안의 응답 시간 분포 기록 (워밍업을 끈 경우와 비교용으로 항상 등록)
+     */
+    @Bean
+    public StartupLatencyRecorder startupLatencyRecorder(@Value("${blog.warmup.measure-window-seconds:60}") long windowSeconds) {
+        return new StartupLatencyRecorder(windowSeconds * 1_000_000_000);
+    }
+
+    /**
+     * 📌 다른 필터(시간 측정, 동시성 제한, 스프링 시큐리티)보다 앞에서 전체 응답 시간을 측정하도록 등록
+     */
+    @Bean
+    public FilterRegistrationBean<StartupLatencyRecorder> startupLatencyRecorderRegistration(StartupLatencyRecorder recorder) {
+        FilterRegistrationBean<StartupLatencyRecorder> registration = new FilterRegistrationBean<>(recorder);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 30);
+        return registration;
+    }
+
+    /**
+     * 📌 준비 완료 전에 실행되는 워밍업 단계
+     * 렌더링은 요청 없이 하므로 스프링 부트의 템플릿 리졸버와 방언을 그대로 쓰되,
+     * 컨텍스트 경로를 요청에서 찾지 않는 링크 빌더를 가진 별도 템플릿 엔진을 사용함
+     */
+    @Bean
+    @ConditionalOnProperty(name = "blog.warmup.enabled", matchIfMissing = true)
+    public ApplicationWarmup applicationWarmup(BlogRepository blogRepository, BlogService blogService,
+                                               TagService tagService, CommentService commentService,
+                                               EntityManager entityManager,
+                                               PlatformTransactionManager transactionManager,
+                                               ObjectMapper objectMapper,
+                                               ObjectProvider<ITemplateResolver> templateResolvers,
+                                               ObjectProvider<IDialect> dialects,
+                                               @Value("${blog.warmup.iterations:100}") int iterations,
+                                               @Value("${blog.warmup.max-duration-ms:20000}") long maxDurationMillis,
+                                               @Value("${blog.warmup.scratch-articles:10}") int scratchArticles) {
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateResolvers.orderedStream().forEach(templateEngine::addTemplateResolver);
+        dialects.orderedStream().forEach(templateEngine::addDialect);
+        templateEngine.setLinkBuilder(new StandardLinkBuilder() {
+            @Override
+            protected String computeContextPath(IExpressionContext context, String base, Map<String, Object> parameters) {
+                return ""; // ✅ 요청이 없으므로 컨텍스트 경로 없이 링크를 만듦
+            }
+        });
+
+        WarmupWorkload workload = new WarmupWorkload(blogRepository, blogService, tagService, commentService,
+                entityManager, new TransactionTemplate(transactionManager), objectMapper, templateEngine,
+                Math.max(1, scratchArticles));
+        return new ApplicationWarmup(workload, iterations, maxDurationMillis * 1_000_000);
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.springdeveloper.config.warmup;
+
+import java.util.List;
+
+/**
+ * 워밍업 결과 요약입니다. 단계마다 첫 회차와 마지막 회차의 소요 시간(마이크로초)을 비교해 JIT 컴파일 효과를 보여 줍니다.
+ */
+public record WarmupReport(int iterations, long elapsedMillis, List<Phase> phases) {
+
+    public record Phase(String name, long firstMicros, long lastMicros) {
+    }
+}
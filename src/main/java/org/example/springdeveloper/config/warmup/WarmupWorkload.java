@@ -0,0 +1,125 @@
+package org.example.springdeveloper.config.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.domain.Comment;
+import org.example.springdeveloper.dto.*;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.example.springdeveloper.service.BlogService;
+import org.example.springdeveloper.service.CommentService;
+import org.example.springdeveloper.service.TagService;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 워밍업 한 회차에서 실행하는 작업입니다. 실제 요청이 거치는 저장·조회(Hibernate), 직렬화(Jackson), 렌더링(Thymeleaf) 경로를 그대로 호출합니다.
+ *
+ * 임시 데이터는 롤백 전용 트랜잭션 안에서 만들고 읽으므로 커밋되지 않습니다.
+ * 커밋 후에 실행되는 작업(캐시 무효화 전파, 블룸 필터 추가, 첨부 파일 삭제)도 실행되지 않으며,
+ * 단건 조회 캐시를 거치는 BlogService.findById 대신 저장소를 직접 호출해 캐시에도 남기지 않습니다.
+ */
+public class WarmupWorkload {
+
+    private static final String SCRATCH_AUTHOR = "warmup";
+    private static final String SCRATCH_TAG = "warmup-scratch";
+
+    private final BlogRepository blogRepository;
+    private final BlogService blogService;
+    private final TagService tagService;
+    private final CommentService commentService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ITemplateEngine templateEngine;
+    private final int scratchArticles;
+
+    public WarmupWorkload(BlogRepository blogRepository, BlogService blogService, TagService tagService,
+                          CommentService commentService, EntityManager entityManager,
+                          TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                          ITemplateEngine templateEngine, int scratchArticles) {
+        this.blogRepository = blogRepository;
+        this.blogService = blogService;
+        this.tagService = tagService;
+        this.commentService = commentService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.templateEngine = templateEngine;
+        this.scratchArticles = scratchArticles;
+    }
+
+    /**
+     * 임시 게시글·태그·댓글을 저장하고 목록·단건·태그별·댓글 조회를 실행한 뒤 롤백합니다.
+     * 화면과 응답에 쓸 DTO는 롤백 전에 만들어 반환합니다.
+     */
+    public Scratch persistence() {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            List<Article> articles = new ArrayList<>();
+            for (int i = 0; i < scratchArticles; i++) {
+                Article article = blogRepository.save(Article.builder()
+                        .title("warm-up " + i)
+                        .content("warm-up content " + i)
+                        .build());
+                tagService.replaceTags(article.getId(), List.of(SCRATCH_TAG, "warmup-" + (i % 3)));
+                articles.add(article);
+            }
+            long articleId = articles.get(0).getId();
+            Comment comment = commentService.addComment(articleId, null, SCRATCH_AUTHOR, "warm-up comment");
+            commentService.addComment(articleId, comment.getId(), SCRATCH_AUTHOR, "warm-up reply");
+
+            // 이후 조회가 1차 캐시가 아니라 실제 SQL과 엔티티 로딩을 거치도록 비움
+            entityManager.flush();
+            entityManager.clear();
+
+            List<ArticleListViewResponse> list = tagService.findArticlesByTag(SCRATCH_TAG, 0, scratchArticles).stream()
+                    .map(ArticleListViewResponse::new)
+                    .toList();
+            List<ArticleResponse> responses = blogService.findAllAfter(0, scratchArticles).stream()
+                    .map(ArticleResponse::new)
+                    .toList();
+            ArticleViewResponse article = new ArticleViewResponse(blogRepository.findWithTagsById(articleId)
+                    .orElseThrow(() -> new IllegalStateException("scratch article not visible: " + articleId)));
+            List<CommentResponse> comments = commentService.findComments(articleId, 0, 20);
+            return new Scratch(list, responses, article, comments);
+        });
+    }
+
+    /**
+     * 응답 DTO를 JSON으로 직렬화하고, 요청 DTO를 역직렬화합니다.
+     */
+    public void serialization(Scratch scratch) throws JsonProcessingException {
+        objectMapper.readTree(objectMapper.writeValueAsBytes(scratch.responses()));
+        objectMapper.writeValueAsBytes(scratch.comments());
+        objectMapper.readValue("{\"title\":\"warm-up\",\"content\":\"warm-up content\"}", AddArticleRequest.class);
+        objectMapper.readValue("{\"title\":\"warm-up\",\"content\":\"warm-up content\"}", UpdateArticleRequest.class);
+        objectMapper.readValue("{\"tags\":[\"warm-up\"]}", UpdateArticleTagsRequest.class);
+        objectMapper.readValue("{\"parentId\":1,\"content\":\"warm-up\"}", AddCommentRequest.class);
+    }
+
+    /**
+     * 글 목록과 글(댓글 포함) 화면을 렌더링하고 결과는 버립니다.
+     */
+    public void rendering(Scratch scratch) {
+        templateEngine.process("articleList", new Context(Locale.getDefault(),
+                Map.of("articles", scratch.list())), Writer.nullWriter());
+        templateEngine.process("article", new Context(Locale.getDefault(),
+                Map.of("article", scratch.article(), "comments", scratch.comments())), Writer.nullWriter());
+    }
+
+    /**
+     * 롤백 전에 만들어 둔 화면·응답용 DTO
+     */
+    public record Scratch(List<ArticleListViewResponse> list, List<ArticleResponse> responses,
+                          ArticleViewResponse article, List<CommentResponse> comments) {
+    }
+}
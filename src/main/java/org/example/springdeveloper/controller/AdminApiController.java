@@ -0,0 +1,89 @@
+package org.example.springdeveloper.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springdeveloper.config.sql.SqlQueryStats;
+import org.example.springdeveloper.config.sql.SqlStatementLog;
+import org.example.springdeveloper.config.timing.RequestTrace;
+import org.example.springdeveloper.config.timing.RequestTraceBuffer;
+import org.example.springdeveloper.config.warmup.ApplicationWarmup;
+import org.example.springdeveloper.config.warmup.StartupLatencyRecorder;
+import org.example.springdeveloper.config.warmup.WarmupReport;
+import org.example.springdeveloper.service.ArticleIdBloomFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class AdminApiController {
+
+    private final ObjectProvider<RequestTraceBuffer> requestTraceBuffer; // blog.timing.enabled=false면 없음
+    private final ObjectProvider<SqlStatementLog> sqlStatementLog; // blog.sql-log.enabled=false면 없음
+    private final ArticleIdBloomFilter articleIdBloomFilter;
+    private final ObjectProvider<ApplicationWarmup> applicationWarmup; // blog.warmup.enabled=false면 없음
+    private final StartupLatencyRecorder startupLatencyRecorder;
+
+    /**
+     * 표본 추출된 최근 요청의 단계별 소요 시간을 조회하는 API 엔드포인트입니다.
+     *
+     * @param limit 조회할 최대 건수
+     * @return HTTP 상태 코드 OK(200)와 함께 최신순 추적 기록 목록을 반환
+     */
+    @GetMapping("/admin/traces")
+    public ResponseEntity<List<RequestTrace>> findTraces(@RequestParam(defaultValue = "100") int limit) {
+        RequestTraceBuffer buffer = requestTraceBuffer.getIfAvailable();
+        return ResponseEntity.ok()
+                .body(buffer == null ? List.of() : buffer.recent(limit));
+    }
+
+    /**
+     * 정규화된 쿼리별 실행 횟수와 소요 시간 집계를 조회하는 API 엔드포인트입니다.
+     *
+     * @return HTTP 상태 코드 OK(200)와 함께 총 소요 시간이 큰 순서의 쿼리 목록을 반환
+     */
+    @GetMapping("/admin/sql-stats")
+    public ResponseEntity<List<SqlQueryStats>> findSqlStats() {
+        SqlStatementLog statementLog = sqlStatementLog.getIfAvailable();
+        return ResponseEntity.ok()
+                .body(statementLog == null ? List.of() : statementLog.queryStats());
+    }
+
+    /**
+     * 게시글 id 블룸 필터의 크기, 오탐률, 조회 통계를 조회하는 API 엔드포인트입니다.
+     *
+     * @return HTTP 상태 코드 OK(200)와 함께 필터 상태를 반환
+     */
+    @GetMapping("/admin/bloom-filter")
+    public ResponseEntity<ArticleIdBloomFilter.Stats> findBloomFilterStats() {
+        return ResponseEntity.ok()
+                .body(articleIdBloomFilter.stats());
+    }
+
+    /**
+     * 시작 시 워밍업 결과(단계별 첫 회차와 마지막 회차 소요 시간)를 조회하는 API 엔드포인트입니다.
+     *
+     * @return HTTP 상태 코드 OK(200)와 함께 워밍업 결과를 반환 (워밍업을 끈 경우 빈 결과)
+     */
+    @GetMapping("/admin/warmup")
+    public ResponseEntity<WarmupReport> findWarmupReport() {
+        ApplicationWarmup warmup = applicationWarmup.getIfAvailable();
+        return ResponseEntity.ok()
+                .body(warmup == null ? new WarmupReport(0, 0, List.of()) : warmup.report());
+    }
+
+    /**
+     * 준비 완료 직후 구간의 응답 시간 분포(p50/p90/p99)를 조회하는 API 엔드포인트입니다.
+     * 워밍업을 켠 인스턴스와 끈 인스턴스의 값을 비교해 워밍업 효과를 측정합니다.
+     *
+     * @return HTTP 상태 코드 OK(200)와 함께 응답 시간 요약을 반환
+     */
+    @GetMapping("/admin/startup-latency")
+    public ResponseEntity<StartupLatencyRecorder.StartupLatency> findStartupLatency() {
+        return ResponseEntity.ok()
+                .body(startupLatencyRecorder.snapshot());
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.springdeveloper.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.springdeveloper.domain.ArticleAttachment;
+import org.example.springdeveloper.dto.ArticleAttachmentResponse;
+import org.example.springdeveloper.service.ArticleAttachmentService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class ArticleAttachmentApiController {
+
+    // 톰캣 NIO 커넥터가 지원하면 요청 속성으로 파일을 넘겨 커넥터가 직접 소켓으로 보내게 함 (sendfile)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ArticleAttachmentService articleAttachmentService;
+
+    /**
+     * 첨부 파일을 올리는 API 엔드포인트입니다.
+     * multipart가 아니라 요청 본문 자체가 파일 내용이며, 본문을 메모리에 모으지 않고 바로 디스크로 기록합니다.
+     *
+     * @param id 첨부할 게시글의 고유 식별자
+     * @param name 원래 파일 이름
+     * @param request 파일 내용을 담은 HTTP 요청
+     * @return HTTP 상태 코드 CREATED(201)와 함께 저장된 첨부 파일 정보를 반환
+     */
+    @PostMapping("/api/articles/{id}/attachments")
+    public ResponseEntity<ArticleAttachmentResponse> uploadAttachment(@PathVariable long id,
+                                                                      @RequestParam String name,
+                                                                      HttpServletRequest request) throws IOException {
+        ArticleAttachment attachment = articleAttachmentService.upload(id, name, request.getContentType(),
+                request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ArticleAttachmentResponse(attachment));
+    }
+
+    /**
+     * 게시글의 첨부 파일 목록을 조회하는 API 엔드포인트입니다.
+     *
+     * @param id 게시글의 고유 식별자
+     * @return HTTP 상태 코드 OK(200)와 함께 첨부 파일 목록을 반환
+     */
+    @GetMapping("/api/articles/{id}/attachments")
+    public ResponseEntity<List<ArticleAttachmentResponse>> findAttachments(@PathVariable long id) {
+        return ResponseEntity.ok()
+                .body(articleAttachmentService.findAttachments(id).stream()
+                        .map(ArticleAttachmentResponse::new)
+                        .toList());
+    }
+
+    /**
+     * 첨부 파일을 내려받는 API 엔드포인트입니다.
+     * 톰캣 NIO 커넥터가 sendfile을 지원하면 커넥터가 파일을 직접 소켓으로 보내므로 제로 카피입니다.
+     * 지원하지 않으면 FileChannel.transferTo로 서블릿 출력 스트림에 보내는데, 대상이 소켓 채널이 아니므로
+     * 힙 버퍼와 출력 스트림 버퍼를 거쳐 복사됩니다. (파일 전체를 힙에 올리지는 않음)
+     * Range 요청(한 구간)과 ETag/Last-Modified 조건부 요청을 지원합니다.
+     *
+     * @param id 게시글의 고유 식별자
+     * @param attachmentId 첨부 파일의 고유 식별자
+     */
+    @GetMapping("/api/articles/{id}/attachments/{attachmentId}")
+    public void downloadAttachment(@PathVariable long id, @PathVariable long attachmentId,
+                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ArticleAttachment attachment = articleAttachmentService.findAttachment(id, attachmentId);
+        String etag = "\"" + attachment.getSha256() + "\"";
+        long lastModified = attachment.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // 올린 파일은 바뀌지 않으므로 오래 캐시하되, 권한이 필요한 자원이므로 공유 캐시에는 두지 않음
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().getHeaderValue() + ", immutable");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return; // 304 Not Modified (ETag, Last-Modified 헤더는 checkNotModified가 설정)
+        }
+
+        long size = attachment.getSize();
+        long start = 0;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 보냄
+        if (range != null && size > 0 && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) { // 여러 구간 요청은 전체 응답으로 처리 (RFC 9110 허용)
+                try {
+                    start = ranges.get(0).getRangeStart(size);
+                    end = ranges.get(0).getRangeEnd(size);
+                } catch (IllegalArgumentException e) { // 시작 위치가 파일 크기를 넘는 경우
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = size == 0 ? 0 : end - start + 1;
+        response.setContentType(attachment.getContentType());
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(attachment.getFileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, articleAttachmentService.path(attachment).toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        // 대체 경로: 스트림을 감싼 채널로는 transferTo가 제로 카피가 되지 않고 작은 힙 버퍼로 나눠 복사됨
+        try (FileChannel file = articleAttachmentService.open(attachment)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * 첨부 파일을 삭제하는 API 엔드포인트입니다.
+     *
+     * @param id 게시글의 고유 식별자
+     * @param attachmentId 첨부 파일의 고유 식별자
+     * @return HTTP 상태 코드 OK(200)로 삭제 결과를 응답
+     */
+    @DeleteMapping("/api/articles/{id}/attachments/{attachmentId}")
+    public ResponseEntity<Void> deleteAttachment(@PathVariable long id, @PathVariable long attachmentId) {
+        articleAttachmentService.delete(id, attachmentId);
+        return ResponseEntity.ok()
+                .build();
+    }
+}
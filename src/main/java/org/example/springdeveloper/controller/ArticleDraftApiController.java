@@ -0,0 +1,72 @@
+package org.example.springdeveloper.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.dto.ArticleDraftResponse;
+import org.example.springdeveloper.dto.UpdateArticleRequest;
+import org.example.springdeveloper.service.ArticleDraftService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@RequiredArgsConstructor
+@RestController
+public class ArticleDraftApiController {
+
+    private final ArticleDraftService articleDraftService;
+
+    /**
+     * 편집 중인 게시글을 임시 저장하는 API 엔드포인트입니다.
+     * 요청은 메모리에만 반영되고 일정 주기마다 한꺼번에 DB에 기록되므로, 몇 초마다 호출해도 됩니다.
+     * 기록할 수 없는 저장본이 나중에 조용히 버려지지 않도록 제목과 내용의 길이는 여기서 검증합니다. (위반 시 400)
+     *
+     * @param id 수정 중인 게시글의 고유 식별자
+     * @param request 편집기의 현재 제목과 내용
+     * @param principal 로그인한 사용자
+     * @return HTTP 상태 코드 ACCEPTED(202), 게시글이 없으면 NOT FOUND(404), 보관 중인 저장본이 너무 많으면 SERVICE UNAVAILABLE(503)
+     */
+    @PutMapping("/api/articles/{id}/draft")
+    public ResponseEntity<Void> saveDraft(@PathVariable long id,
+                                          @Valid @RequestBody UpdateArticleRequest request,
+                                          Principal principal) {
+        articleDraftService.save(principal.getName(), id, request);
+        return ResponseEntity.accepted()
+                .build();
+    }
+
+    /**
+     * 최신 임시 저장본을 조회하는 API 엔드포인트입니다.
+     *
+     * @return 임시 저장본이 있으면 OK(200), 없으면 NOT FOUND(404)
+     */
+    @GetMapping("/api/articles/{id}/draft")
+    public ResponseEntity<ArticleDraftResponse> findDraft(@PathVariable long id, Principal principal) {
+        return ResponseEntity.of(articleDraftService.find(principal.getName(), id));
+    }
+
+    /**
+     * 임시 저장본을 게시글에 반영(게시)하는 API 엔드포인트입니다.
+     *
+     * @return HTTP 상태 코드 OK(200)와 함께 수정된 게시글 정보를 반환
+     */
+    @PostMapping("/api/articles/{id}/draft/publish")
+    public ResponseEntity<Article> publishDraft(@PathVariable long id, Principal principal) {
+        Article article = articleDraftService.publish(principal.getName(), id);
+        return ResponseEntity.ok()
+                .body(article);
+    }
+
+    /**
+     * 임시 저장본을 버리는 API 엔드포인트입니다.
+     *
+     * @return HTTP 상태 코드 OK(200)
+     */
+    @DeleteMapping("/api/articles/{id}/draft")
+    public ResponseEntity<Void> discardDraft(@PathVariable long id, Principal principal) {
+        articleDraftService.discard(principal.getName(), id);
+        return ResponseEntity.ok()
+                .build();
+    }
+}
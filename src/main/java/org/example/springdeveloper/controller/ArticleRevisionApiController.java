@@ -0,0 +1,45 @@
+package org.example.springdeveloper.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springdeveloper.dto.ArticleRevisionContentResponse;
+import org.example.springdeveloper.dto.ArticleRevisionResponse;
+import org.example.springdeveloper.service.ArticleRevisionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class ArticleRevisionApiController {
+
+    private final ArticleRevisionService articleRevisionService;
+
+    /**
+     * 게시글의 수정 이력 목록을 조회하는 API 엔드포인트입니다.
+     *
+     * @param id 게시글의 고유 식별자
+     * @return HTTP 상태 코드 OK(200)와 함께 최신순 리비전 목록을 반환
+     */
+    @GetMapping("/api/articles/{id}/revisions")
+    public ResponseEntity<List<ArticleRevisionResponse>> findRevisions(@PathVariable long id) {
+        return ResponseEntity.ok()
+                .body(articleRevisionService.findRevisions(id));
+    }
+
+    /**
+     * 특정 리비전 시점의 게시글을 조회하는 API 엔드포인트입니다.
+     *
+     * @param id 게시글의 고유 식별자
+     * @param revision 리비전 번호 (1부터 시작)
+     * @return HTTP 상태 코드 OK(200)와 함께 복원된 제목과 본문을 반환
+     */
+    @GetMapping("/api/articles/{id}/revisions/{revision}")
+    public ResponseEntity<ArticleRevisionContentResponse> findRevision(@PathVariable long id,
+                                                                       @PathVariable int revision) {
+        return ResponseEntity.ok()
+                .body(articleRevisionService.findRevision(id, revision));
+    }
+}
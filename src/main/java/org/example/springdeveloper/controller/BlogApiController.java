@@ -1,5 +1,6 @@
 package org.example.springdeveloper.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.springdeveloper.domain.Article;
 import org.example.springdeveloper.dto.AddArticleRequest;
@@ -10,6 +11,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 
 @RequiredArgsConstructor // final 필드(blogService)에 대해 생성자를 자동 생성하여 의존성 주입을 처리합니다.
@@ -71,6 +76,27 @@ public class BlogApiController {
                 .body(new ArticleResponse(article));
     }
 
+    /**
+     * 특정 게시글의 본문만 text/plain으로 반환하는 API 엔드포인트입니다.
+     * 행 밖(세그먼트 파일)에 저장된 큰 본문은 문자열로 디코딩하지 않고 메모리 맵 영역에서 바로 응답 스트림에 씁니다.
+     * 서블릿 출력 스트림의 버퍼로 한 번 복사되므로 제로 카피는 아닙니다. 톰캣 sendfile은 핸들러가 끝난 뒤에
+     * 파일 이름으로 다시 열기 때문에, 그 사이 압축(compaction)으로 세그먼트가 삭제될 수 있어 쓰지 않습니다.
+     *
+     * @param id 조회할 게시글의 고유 식별자
+     * @param response 본문을 기록할 HTTP 응답 객체
+     */
+    @GetMapping("/api/articles/{id}/content")
+    public void findArticleContent(@PathVariable long id, HttpServletResponse response) throws IOException {
+        ByteBuffer body = blogService.findById(id).contentBuffer();
+
+        response.setContentType("text/plain;charset=UTF-8");
+        response.setContentLengthLong(body.remaining());
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+    }
+
     /**
      * 특정 게시글을 삭제하는 API 엔드포인트입니다.
      * URL 경로에 포함된 {id} 값을 통해 삭제할 게시글을 식별합니다.
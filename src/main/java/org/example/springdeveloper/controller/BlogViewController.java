@@ -1,11 +1,15 @@
 package org.example.springdeveloper.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import org.example.springdeveloper.domain.Article;
 import org.example.springdeveloper.dto.ArticleViewResponse;
+import org.example.springdeveloper.dto.CommentResponse;
 import org.springframework.ui.Model;
 import lombok.RequiredArgsConstructor;
 import org.example.springdeveloper.dto.ArticleListViewResponse;
 import org.example.springdeveloper.service.BlogService;
+import org.example.springdeveloper.service.CommentService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,14 +23,33 @@ import java.util.stream.Collectors;
 public class BlogViewController {
 
     private final BlogService blogService; // 블로그 서비스 클래스 (비즈니스 로직 처리)
+    private final CommentService commentService; // 댓글 서비스 클래스
+
+    @Value("${blog.comment.page-size:20}")
+    private int commentPageSize; // 글 화면에 한 번에 보여줄 최상위 댓글 수
+
+    @Value("${blog.article-list.streaming:true}")
+    private boolean streaming; // 목록을 나눠 읽으며 렌더링한 부분부터 바로 내보낼지 여부
+
+    @Value("${blog.article-list.chunk-size:100}")
+    private int chunkSize; // 한 번에 읽어 렌더링할 게시글 수
 
     /**
      * 전체 블로그 글 목록을 조회하는 핸들러 메서드
+     * 스트리밍 모드에서는 목록 대신 반복자를 모델에 넣어, 타임리프가 th:each로 순회할 때 게시글을 chunkSize개씩 읽고
+     * 읽기 전마다 그때까지 렌더링된 HTML을 클라이언트로 내보냅니다. (첫 응답 시간과 메모리가 글 수와 무관)
      * @param model 뷰에 데이터를 전달하는 객체
+     * @param response 렌더링 중간에 출력을 내보낼 응답 객체
      * @return articleList 뷰 페이지 (articleList.html)
      */
     @GetMapping("/articles") // "/articles" URL로 GET 요청이 들어오면 실행
-    public String getArticles(Model model) {
+    public String getArticles(Model model, HttpServletResponse response) {
+        if (streaming) {
+            model.addAttribute("articles", new ChunkedArticleIterator(
+                    afterId -> blogService.findAllAfter(afterId, chunkSize), chunkSize, response));
+            return "articleList";
+        }
+
         // blogService.findAll()을 통해 모든 게시글을 조회한 후 DTO로 변환
         List<ArticleListViewResponse> articles = blogService.findAll().stream()
                 .map(ArticleListViewResponse::new) // Article 엔티티를 ArticleListViewResponse DTO로 변환
@@ -39,15 +62,25 @@ public class BlogViewController {
 
     /**
      * 특정 블로그 글을 조회하는 핸들러 메서드
+     * 댓글은 최상위 댓글 commentPageSize개와 그 답글 전체를 쿼리 한 번으로 읽어 함께 전달합니다.
      * @param id 조회할 글의 ID (URL Path Variable)
+     * @param commentsAfter 직전 댓글 페이지의 마지막 최상위 댓글 id (처음이면 0)
      * @param model 뷰에 데이터를 전달하는 객체
      * @return article 뷰 페이지 (article.html)
      */
     @GetMapping("/articles/{id}") // "/articles/{id}" URL로 GET 요청이 들어오면 실행
-    public String getArticle(@PathVariable Long id, Model model) {
+    public String getArticle(@PathVariable Long id,
+                             @RequestParam(defaultValue = "0") long commentsAfter,
+                             Model model) {
         Article article = blogService.findById(id); // ID를 이용해 블로그 글 조회
         model.addAttribute("article", new ArticleViewResponse(article)); // 조회한 글을 DTO로 변환하여 뷰에 전달
 
+        List<CommentResponse> comments = commentService.findComments(id, commentsAfter, commentPageSize);
+        model.addAttribute("comments", comments);
+        if (comments.size() == commentPageSize) { // 다음 페이지가 있을 수 있으면 이어서 볼 위치 전달
+            model.addAttribute("nextCommentsAfter", comments.get(comments.size() - 1).getId());
+        }
+
         return "article"; // article.html 뷰 반환
     }
 
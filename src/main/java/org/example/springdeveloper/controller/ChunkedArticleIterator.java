@@ -0,0 +1,68 @@
+package org.example.springdeveloper.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.dto.ArticleListViewResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+
+/**
+ * 게시글 목록을 묶음(chunk) 단위로 필요할 때 읽어오는 반복자입니다.
+ * 타임리프는 th:each 대상이 Iterator이면 값을 모아 두지 않고 순회하며 바로 출력하므로,
+ * 다음 묶음을 읽기 직전에 응답 버퍼를 비워(flush) 이미 렌더링된 부분을 먼저 보냅니다.
+ */
+class ChunkedArticleIterator implements Iterator<ArticleListViewResponse> {
+
+    private final LongFunction<List<Article>> chunkLoader; // 마지막으로 읽은 id 다음부터 한 묶음을 읽음
+    private final int chunkSize;
+    private final HttpServletResponse response;
+
+    private Iterator<Article> chunk = Collections.emptyIterator();
+    private long lastId;
+    private boolean exhausted;
+
+    ChunkedArticleIterator(LongFunction<List<Article>> chunkLoader, int chunkSize, HttpServletResponse response) {
+        this.chunkLoader = chunkLoader;
+        this.chunkSize = chunkSize;
+        this.response = response;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (chunk.hasNext()) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+        flush(); // 첫 묶음 전에는 페이지 머리 부분이, 이후에는 직전 묶음이 전송됨
+        List<Article> articles = chunkLoader.apply(lastId);
+        exhausted = articles.size() < chunkSize;
+        chunk = articles.iterator();
+        return chunk.hasNext();
+    }
+
+    @Override
+    public ArticleListViewResponse next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Article article = chunk.next();
+        lastId = article.getId();
+        return new ArticleListViewResponse(article);
+    }
+
+    private void flush() {
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to flush article list", e); // 클라이언트가 연결을 끊으면 렌더링 중단
+        }
+    }
+}
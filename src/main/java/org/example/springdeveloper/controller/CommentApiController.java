@@ -0,0 +1,53 @@
+package org.example.springdeveloper.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.springdeveloper.dto.AddCommentRequest;
+import org.example.springdeveloper.dto.CommentResponse;
+import org.example.springdeveloper.service.CommentService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class CommentApiController {
+
+    private final CommentService commentService;
+
+    /**
+     * 게시글에 댓글이나 답글을 추가하는 API 엔드포인트입니다.
+     *
+     * @param id 게시글의 고유 식별자
+     * @param request 부모 댓글 id(답글인 경우)와 내용
+     * @param principal 로그인한 사용자 (작성자)
+     * @return HTTP 상태 코드 CREATED(201)와 함께 저장된 댓글을 반환
+     */
+    @PostMapping("/api/articles/{id}/comments")
+    public ResponseEntity<CommentResponse> addComment(@PathVariable long id,
+                                                      @Valid @RequestBody AddCommentRequest request,
+                                                      Principal principal) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new CommentResponse(commentService.addComment(id, request.getParentId(),
+                        principal.getName(), request.getContent())));
+    }
+
+    /**
+     * 게시글의 댓글을 최상위 댓글 단위로 나눠 조회하는 API 엔드포인트입니다.
+     *
+     * @param id 게시글의 고유 식별자
+     * @param after 직전 페이지의 마지막 최상위 댓글 id (처음이면 0)
+     * @param size 최상위 댓글 수 (최대 100, 답글은 개수와 관계없이 모두 포함)
+     * @return HTTP 상태 코드 OK(200)와 함께 답글이 중첩된 댓글 목록을 반환
+     */
+    @GetMapping("/api/articles/{id}/comments")
+    public ResponseEntity<List<CommentResponse>> findComments(@PathVariable long id,
+                                                              @RequestParam(defaultValue = "0") long after,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok()
+                .body(commentService.findComments(id, after, Math.max(1, Math.min(size, 100))));
+    }
+}
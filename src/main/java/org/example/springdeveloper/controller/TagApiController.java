@@ -0,0 +1,64 @@
+package org.example.springdeveloper.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.springdeveloper.dto.ArticleResponse;
+import org.example.springdeveloper.dto.TagResponse;
+import org.example.springdeveloper.dto.UpdateArticleTagsRequest;
+import org.example.springdeveloper.service.TagService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class TagApiController {
+
+    private final TagService tagService;
+
+    /**
+     * 게시글의 태그를 교체하는 API 엔드포인트입니다.
+     *
+     * @param id 게시글의 고유 식별자
+     * @param request 새 태그 이름 목록
+     * @return HTTP 상태 코드 OK(200)와 함께 태그가 바뀐 게시글 정보를 반환
+     */
+    @PutMapping("/api/articles/{id}/tags")
+    public ResponseEntity<ArticleResponse> replaceTags(@PathVariable long id,
+                                                       @Valid @RequestBody UpdateArticleTagsRequest request) {
+        return ResponseEntity.ok()
+                .body(new ArticleResponse(tagService.replaceTags(id, request.getTags())));
+    }
+
+    /**
+     * 모든 태그와 태그별 게시글 수를 조회하는 API 엔드포인트입니다.
+     *
+     * @return HTTP 상태 코드 OK(200)와 함께 게시글이 많이 붙은 순서의 태그 목록을 반환
+     */
+    @GetMapping("/api/tags")
+    public ResponseEntity<List<TagResponse>> findTags() {
+        return ResponseEntity.ok()
+                .body(tagService.findTags().stream()
+                        .map(TagResponse::new)
+                        .toList());
+    }
+
+    /**
+     * 태그가 붙은 게시글을 id 순으로 조회하는 API 엔드포인트입니다.
+     *
+     * @param tag 태그 이름
+     * @param after 직전 페이지의 마지막 게시글 id (처음이면 0)
+     * @param size 페이지 크기 (최대 100)
+     * @return HTTP 상태 코드 OK(200)와 함께 게시글 목록을 반환
+     */
+    @GetMapping("/api/tags/{tag}/articles")
+    public ResponseEntity<List<ArticleResponse>> findArticlesByTag(@PathVariable String tag,
+                                                                   @RequestParam(defaultValue = "0") long after,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok()
+                .body(tagService.findArticlesByTag(tag, after, Math.max(1, Math.min(size, 100))).stream()
+                        .map(ArticleResponse::new)
+                        .toList());
+    }
+}
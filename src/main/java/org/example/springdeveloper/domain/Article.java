@@ -5,12 +5,23 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Where;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity // 이 클래스가 JPA 엔티티임을 나타내며, 데이터베이스 테이블과 매핑됨
+@Table(name = "article", indexes = @Index(name = "idx_article_deleted_at", columnList = "deleted_at")) // 삭제 표시된 글을 오래된 순으로 찾는 정리 작업용 인덱스
+@Where(clause = "deleted_at is null") // 삭제 표시된 글은 모든 조회에서 제외 (네이티브 쿼리는 제외되지 않음)
+@EntityListeners(ArticleEntityListener.class) // 큰 본문을 행 밖(세그먼트 파일)에 저장하고 읽어오기 위한 리스너
 @Getter // Lombok 어노테이션으로, 모든 필드에 대한 getter 메서드를 자동 생성
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자를 생성하되, 외부에서 직접 호출하지 못하도록 protected 접근제한을 설정
 public class Article {
@@ -23,9 +34,43 @@ public class Article {
     @Column(name = "title", nullable = false) // 데이터베이스 컬럼 'title'과 매핑, null 값을 허용하지 않음
     private String title;
 
-    @Column(name = "content", nullable = false) // 데이터베이스 컬럼 'content'와 매핑, null 값을 허용하지 않음
+    // 데이터베이스 컬럼 'content'와 매핑, null 값을 허용하지 않음
+    // 본문이 행 밖에 저장된 경우에는 빈 문자열이고, 실제 본문은 getContent()가 세그먼트 파일에서 읽어옴
+    @Column(name = "content", nullable = false, length = 1_048_576)
     private String content;
 
+    // 행 밖에 저장된 본문의 위치 (세그먼트 번호, 세그먼트 내 오프셋, UTF-8 바이트 길이). 행 안에 저장된 경우 null
+    @Getter(AccessLevel.NONE)
+    @Column(name = "body_segment")
+    private Integer bodySegment;
+
+    @Getter(AccessLevel.NONE)
+    @Column(name = "body_offset")
+    private Long bodyOffset;
+
+    @Getter(AccessLevel.NONE)
+    @Column(name = "body_length")
+    private Integer bodyLength;
+
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private transient ArticleBodySource bodySource; // 행 밖 본문을 읽을 저장소 (로드 시 리스너가 연결)
+
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private transient String offRowContent; // 한 번 읽은 행 밖 본문
+
+    // 게시글에 붙은 태그. 목록 조회 시 N+1 쿼리가 생기지 않도록 여러 게시글의 태그를 한 번에 읽음(@BatchSize)
+    // 연결 테이블의 기본키는 (article_id, tag_id)이고, 태그별 게시글 조회를 위해 tag_id에 인덱스를 둠
+    @Getter(AccessLevel.NONE)
+    @ManyToMany
+    @JoinTable(name = "article_tag",
+            joinColumns = @JoinColumn(name = "article_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"),
+            indexes = @Index(name = "idx_article_tag_tag", columnList = "tag_id, article_id"))
+    @BatchSize(size = 100)
+    private Set<Tag> tags = new LinkedHashSet<>();
+
     // Lombok의 @Builder 어노테이션을 통해 빌더 패턴으로 객체를 생성할 수 있게 함.
     // 이 생성자를 사용하여 Article 객체를 생성할 때 필수값을 전달받음
     @Builder
@@ -39,6 +84,67 @@ public class Article {
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        // 새 본문은 일단 행 안에 두고, 필요하면 flush 시점에 리스너가 다시 행 밖으로 옮김
+        this.bodySegment = null;
+        this.bodyOffset = null;
+        this.bodyLength = null;
+        this.offRowContent = null;
+    }
+
+    /**
+     * 게시글에 붙은 태그를 반환합니다. (변경은 replaceTags로만 가능)
+     */
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
+    // 태그 목록을 교체함 (태그별 게시글 수 갱신은 TagService가 함께 처리)
+    public void replaceTags(Collection<Tag> tags) {
+        this.tags.clear();
+        this.tags.addAll(tags);
+    }
+
+    /**
+     * 게시글 본문을 반환합니다. 본문이 행 밖에 저장되어 있으면 처음 호출될 때 세그먼트 파일에서 읽어옵니다.
+     */
+    public String getContent() {
+        if (bodySegment == null) {
+            return content;
+        }
+        if (offRowContent == null && bodySource != null) {
+            offRowContent = bodySource.read(bodySegment, bodyOffset, bodyLength);
+        }
+        return offRowContent;
+    }
+
+    /**
+     * 본문을 UTF-8 바이트로 반환합니다. 행 밖에 저장된 본문은 복사 없이 메모리 맵 영역을 그대로 가리킵니다.
+     */
+    public ByteBuffer contentBuffer() {
+        if (bodySegment != null && bodySource != null) {
+            return bodySource.slice(bodySegment, bodyOffset, bodyLength);
+        }
+        return ByteBuffer.wrap(getContent().getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+    }
+
+    // 본문이 행 밖(세그먼트 파일)에 저장되어 있는지 여부
+    public boolean hasOffRowBody() {
+        return bodySegment != null;
+    }
+
+    // 행 밖 본문을 읽을 저장소를 연결함 (엔티티 로드 시 리스너가 호출)
+    void attachBodySource(ArticleBodySource bodySource) {
+        this.bodySource = bodySource;
+    }
+
+    // 이미 세그먼트 파일에 기록된 본문을 가리키도록 하고, 행의 content 컬럼은 비움 (리스너가 flush 직전에 호출)
+    void moveBodyOffRow(ArticleBodySource bodySource, int segment, long offset, int length) {
+        this.offRowContent = this.content;
+        this.content = "";
+        this.bodySource = bodySource;
+        this.bodySegment = segment;
+        this.bodyOffset = offset;
+        this.bodyLength = length;
     }
 
     @CreatedDate // 엔티티가 생성될 때 생성 시간 저장
@@ -48,4 +154,8 @@ public class Article {
     @LastModifiedDate // 엔티티가 수정될 때 수정 시간 저장
     @Column(name= "updated_at")
     private LocalDateTime updatedAt;
+
+    // 삭제 표시 시간 (삭제되지 않았으면 null). 보관 기간이 지나면 ArticlePurger가 실제로 삭제함
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
 }
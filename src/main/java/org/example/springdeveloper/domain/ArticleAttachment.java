@@ -0,0 +1,59 @@
+package org.example.springdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 첨부 파일 한 건의 메타데이터입니다.
+ * 파일 내용은 DB가 아니라 첨부 파일 디렉터리에 storageKey 이름으로 저장되며, 한 번 올린 파일은 바뀌지 않습니다.
+ */
+@Entity
+@Table(name = "article_attachment",
+        indexes = @Index(name = "idx_article_attachment_article", columnList = "article_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleAttachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "article_id", nullable = false, updatable = false)
+    private Long articleId;
+
+    @Column(name = "file_name", nullable = false, updatable = false) // 사용자가 올린 원래 파일 이름
+    private String fileName;
+
+    @Column(name = "content_type", nullable = false, updatable = false)
+    private String contentType;
+
+    @Column(name = "size", nullable = false, updatable = false) // 바이트 수
+    private long size;
+
+    @Column(name = "sha256", nullable = false, updatable = false, length = 64) // 내용의 SHA-256 (16진수, ETag로도 사용)
+    private String sha256;
+
+    @Column(name = "storage_key", nullable = false, updatable = false, length = 64) // 디스크에 저장된 파일 이름
+    private String storageKey;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ArticleAttachment(Long articleId, String fileName, String contentType, long size, String sha256,
+                             String storageKey) {
+        this.articleId = articleId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.size = size;
+        this.sha256 = sha256;
+        this.storageKey = storageKey;
+        this.createdAt = LocalDateTime.now();
+    }
+}
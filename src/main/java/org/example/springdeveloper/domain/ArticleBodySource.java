@@ -0,0 +1,19 @@
+package org.example.springdeveloper.domain;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 행 밖(세그먼트 파일)에 저장된 게시글 본문을 읽어오는 저장소입니다.
+ */
+public interface ArticleBodySource {
+
+    /**
+     * 본문을 UTF-8로 디코딩하여 반환합니다.
+     */
+    String read(int segment, long offset, int length);
+
+    /**
+     * 본문 바이트를 가리키는 읽기 전용 버퍼를 복사 없이 반환합니다.
+     */
+    ByteBuffer slice(int segment, long offset, int length);
+}
@@ -0,0 +1,58 @@
+package org.example.springdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 수정 화면에서 자동 저장된 임시 저장본입니다.
+ * 사용자와 게시글 조합마다 마지막 상태 한 건만 유지합니다.
+ */
+@Entity
+@Table(name = "article_draft",
+        uniqueConstraints = @UniqueConstraint(name = "uk_article_draft_author_article",
+                columnNames = {"author", "article_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleDraft {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "author", nullable = false, updatable = false) // 임시 저장한 사용자 (이메일)
+    private String author;
+
+    @Column(name = "article_id", nullable = false, updatable = false) // 수정 중인 게시글 id
+    private Long articleId;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "content", length = 1_048_576) // Article.content와 같은 길이
+    private String content;
+
+    @Column(name = "saved_at", nullable = false) // 마지막으로 편집기에서 저장 요청이 들어온 시각
+    private LocalDateTime savedAt;
+
+    @Builder
+    public ArticleDraft(String author, Long articleId, String title, String content, LocalDateTime savedAt) {
+        this.author = author;
+        this.articleId = articleId;
+        this.title = title;
+        this.content = content;
+        this.savedAt = savedAt;
+    }
+
+    // 더 최근에 저장된 임시 저장본으로 덮어씀
+    public void update(String title, String content, LocalDateTime savedAt) {
+        this.title = title;
+        this.content = content;
+        this.savedAt = savedAt;
+    }
+}
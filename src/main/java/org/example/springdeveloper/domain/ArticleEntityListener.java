@@ -0,0 +1,51 @@
+package org.example.springdeveloper.domain;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.example.springdeveloper.config.invalidation.InvalidationBus;
+import org.example.springdeveloper.service.ArticleBodyStore;
+import org.example.springdeveloper.service.ArticleIdBloomFilter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Article 엔티티의 생명주기 리스너입니다.
+ * 하이버네이트가 스프링 빈으로 생성하므로 생성자 주입을 사용할 수 있습니다.
+ */
+@Component
+public class ArticleEntityListener {
+
+    private final ArticleBodyStore articleBodyStore;
+    private final InvalidationBus invalidationBus;
+
+    public ArticleEntityListener(ArticleBodyStore articleBodyStore, InvalidationBus invalidationBus) {
+        this.articleBodyStore = articleBodyStore;
+        this.invalidationBus = invalidationBus;
+    }
+
+    // INSERT/UPDATE 직전: 기준보다 큰 본문은 세그먼트 파일에 기록하고 행에는 위치만 남김
+    @PrePersist
+    @PreUpdate
+    public void moveLargeBodyOffRow(Article article) {
+        if (article.hasOffRowBody() || !articleBodyStore.shouldStore(article.getContent())) {
+            return;
+        }
+        ArticleBodyStore.BodyRef ref = articleBodyStore.append(article.getContent());
+        article.moveBodyOffRow(articleBodyStore, ref.segment(), ref.offset(), ref.length());
+    }
+
+    // INSERT 직후: 커밋되면 이 노드와 다른 노드의 게시글 id 블룸 필터에 새 id를 추가
+    @PostPersist
+    public void publishNewId(Article article) {
+        invalidationBus.publish(ArticleIdBloomFilter.ENTITY_TYPE, article.getId());
+    }
+
+    // 로드 직후: 행 밖 본문을 필요할 때 읽을 수 있도록 저장소를 연결 (본문은 아직 읽지 않음)
+    @PostLoad
+    public void attachBodySource(Article article) {
+        if (article.hasOffRowBody()) {
+            article.attachBodySource(articleBodyStore);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.springdeveloper.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 가져오기(import)의 진행 위치를 저장하는 엔티티입니다.
+ * 배치 INSERT와 같은 트랜잭션에서 갱신되므로, 중단 후 재시작하면 마지막으로 커밋된 레코드 다음부터 이어서 처리합니다.
+ */
+@Entity
+@Table(name = "article_import_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleImportCheckpoint {
+
+    @Id // 가져오기 원본 파일의 절대 경로를 기본키로 사용
+    @Column(name = "source", updatable = false, length = 1024)
+    private String source;
+
+    @Column(name = "record_number", nullable = false) // 마지막으로 커밋된 레코드 번호 (1부터 시작)
+    private long recordNumber;
+
+    @Column(name = "imported_count", nullable = false) // 지금까지 저장에 성공한 레코드 수
+    private long importedCount;
+
+    @Column(name = "failed_count", nullable = false) // 지금까지 검증/파싱에 실패한 레코드 수
+    private long failedCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ArticleImportCheckpoint(String source) {
+        this.source = source;
+    }
+
+    // 배치 하나가 처리될 때마다 호출하여 진행 위치와 누적 건수를 갱신함
+    public void advance(long recordNumber, long imported, long failed) {
+        this.recordNumber = recordNumber;
+        this.importedCount += imported;
+        this.failedCount += failed;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.springdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글의 수정 이력(리비전) 한 건입니다.
+ * SNAPSHOT은 본문 전체를, DELTA는 직전 리비전 대비 변경분(TextDelta 형식)만 payload에 저장합니다.
+ */
+@Entity
+@Table(name = "article_revision",
+        uniqueConstraints = @UniqueConstraint(name = "uk_article_revision_article_number",
+                columnNames = {"article_id", "revision_number"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleRevision {
+
+    public enum Type {
+        SNAPSHOT, // 본문 전체
+        DELTA     // 직전 리비전 대비 변경분
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "article_id", nullable = false, updatable = false)
+    private Long articleId;
+
+    @Column(name = "revision_number", nullable = false, updatable = false) // 게시글별로 1부터 증가
+    private int revisionNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false, length = 16)
+    private Type type;
+
+    @Column(name = "title", nullable = false, updatable = false) // 제목은 짧으므로 리비전마다 전체 저장
+    private String title;
+
+    @Column(name = "payload", nullable = false, updatable = false, length = 1_048_576)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ArticleRevision(Long articleId, int revisionNumber, Type type, String title, String payload) {
+        this.articleId = articleId;
+        this.revisionNumber = revisionNumber;
+        this.type = type;
+        this.title = title;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
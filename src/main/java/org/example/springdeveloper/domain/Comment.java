@@ -0,0 +1,92 @@
+package org.example.springdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 댓글 한 건입니다. 답글도 같은 테이블에 저장합니다.
+ * 트리는 부모 참조 대신 경로(path)로 표현합니다. 경로는 루트부터 자신까지의 id를 고정 길이로 이어 붙인 문자열이며,
+ * 경로 순으로 정렬하면 깊이 우선 순서(부모 → 자식, 형제는 작성 순)가 되므로 최상위 댓글 한 페이지의 트리 전체를 쿼리 한 번으로 읽습니다.
+ */
+@Entity
+@Table(name = "article_comment", indexes = {
+        @Index(name = "idx_article_comment_article_root", columnList = "article_id, depth, id"), // 최상위 댓글 페이지
+        @Index(name = "idx_article_comment_root_path", columnList = "root_id, path") // 최상위 댓글별 하위 트리
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Comment {
+
+    public static final int MAX_DEPTH = 15; // 이보다 깊은 답글은 부모와 같은 깊이에 붙임
+    private static final int PATH_SEGMENT_LENGTH = 12; // 경로에서 id 하나가 차지하는 자리 수 (+ 구분자 1)
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "article_id", nullable = false, updatable = false)
+    private Long articleId;
+
+    @Column(name = "parent_id", updatable = false) // 최상위 댓글이면 null
+    private Long parentId;
+
+    @Column(name = "root_id") // 속한 최상위 댓글 id (최상위 댓글이면 자기 자신, id가 정해진 뒤 채움)
+    private Long rootId;
+
+    @Column(name = "depth", nullable = false, updatable = false) // 최상위 댓글이 0
+    private int depth;
+
+    // 예: 000000000012/000000000034/ (id가 정해진 뒤 자신의 구간을 덧붙임)
+    @Column(name = "path", nullable = false, length = (PATH_SEGMENT_LENGTH + 1) * (MAX_DEPTH + 1))
+    private String path;
+
+    @Column(name = "author", nullable = false, updatable = false)
+    private String author;
+
+    @Column(name = "content", nullable = false, updatable = false, length = 4000)
+    private String content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 댓글을 만듭니다. parent가 null이면 최상위 댓글입니다.
+     * 저장해서 id가 정해지면 assignPath를 호출해야 합니다.
+     */
+    @Builder
+    public Comment(Long articleId, Comment parent, String author, String content) {
+        this.articleId = articleId;
+        if (parent != null) {
+            // 최대 깊이에 이른 댓글의 답글은 그 댓글의 형제로 붙임
+            Comment attachTo = parent.depth < MAX_DEPTH ? parent : null;
+            this.parentId = attachTo != null ? attachTo.id : parent.parentId;
+            this.rootId = parent.rootId;
+            this.depth = attachTo != null ? parent.depth + 1 : parent.depth;
+            this.path = attachTo != null ? parent.path : parent.parentPath();
+        } else {
+            this.path = "";
+        }
+        this.author = author;
+        this.content = content;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // 저장 후 정해진 id를 경로 끝에 덧붙임 (같은 트랜잭션에서 UPDATE로 반영됨)
+    public void assignPath() {
+        this.path = path + String.format("%0" + PATH_SEGMENT_LENGTH + "d/", id);
+        if (rootId == null) {
+            this.rootId = id;
+        }
+    }
+
+    // 부모의 경로 (자신의 마지막 구간을 뺀 것)
+    private String parentPath() {
+        return path.substring(0, path.length() - (PATH_SEGMENT_LENGTH + 1));
+    }
+}
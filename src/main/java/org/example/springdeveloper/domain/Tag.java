@@ -0,0 +1,32 @@
+package org.example.springdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 태그입니다. 이름은 소문자로 정규화되어 유일하며,
+ * articleCount는 태그가 붙은 게시글 수로 태그 변경·게시글 삭제 시 갱신 쿼리로 증감합니다.
+ */
+@Entity
+@Table(name = "tag", uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Tag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "name", nullable = false, updatable = false, length = 50)
+    private String name;
+
+    @Column(name = "article_count", nullable = false)
+    private long articleCount;
+
+    public Tag(String name) {
+        this.name = name;
+    }
+}
@@ -30,6 +30,10 @@ public class User implements UserDetails { // Spring Security의 UserDetails 인
     @Column(name = "password") // "password" 컬럼을 정의
     private String password;
 
+    @Enumerated(EnumType.STRING) // 이름(USER, ADMIN)으로 저장
+    @Column(name = "role", nullable = false) // "role" 컬럼을 정의 (기본값은 일반 사용자)
+    private Role role = Role.USER;
+
     /**
      * 📌 User 엔티티의 생성자 (객체 생성 시 이메일, 비밀번호를 설정)
      * @param email 사용자의 이메일 (고유한 값)
@@ -41,13 +45,31 @@ public class User implements UserDetails { // Spring Security의 UserDetails 인
         this.password = password;
     }
 
+    /**
+     * 📌 비밀번호 해시를 교체하는 메서드 (로그인 시 해시 cost가 바뀐 경우 재해싱)
+     * @param password 새로 해싱된 비밀번호
+     */
+    public void updatePassword(String password) {
+        this.password = password;
+    }
+
+    /**
+     * 📌 관리자 권한을 부여하는 메서드 (blog.admin.emails에 등록된 사용자)
+     */
+    public void grantAdmin() {
+        this.role = Role.ADMIN;
+    }
+
     /**
      * 📌 사용자의 권한을 반환하는 메서드 (UserDetails 인터페이스 구현)
      * @return 사용자의 권한 목록 (Spring Security의 GrantedAuthority 형태)
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // 현재는 모든 사용자가 "user" 권한을 갖도록 설정 (추후 확장 가능)
+        // 모든 사용자는 "user" 권한을 갖고, 관리자는 "/admin/**" 접근용 ROLE_ADMIN 권한을 함께 가짐
+        if (role == Role.ADMIN) {
+            return List.of(new SimpleGrantedAuthority("user"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
         return List.of(new SimpleGrantedAuthority("user"));
     }
 
@@ -108,4 +130,11 @@ public class User implements UserDetails { // Spring Security의 UserDetails 인
         // 계정이 사용 가능한지 확인하는 로직 (현재는 항상 true)
         return true;
     }
+
+    /**
+     * 📌 사용자 역할 (일반 사용자, 관리자)
+     */
+    public enum Role {
+        USER, ADMIN
+    }
 }
@@ -17,9 +17,11 @@ DTO(Data Transfer Object) 역할:
 public class AddArticleRequest {
 
     // 게시글 제목을 저장하는 필드
+    @NotBlank
     private String title;
 
     // 게시글 내용을 저장하는 필드
+    @NotBlank
     private String content;
 
     /**
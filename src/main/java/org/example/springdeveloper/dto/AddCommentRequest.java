@@ -0,0 +1,20 @@
+package org.example.springdeveloper.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class AddCommentRequest {
+
+    // 답글을 달 댓글 id (최상위 댓글이면 null)
+    private Long parentId;
+
+    @NotBlank
+    @Size(max = 4000)
+    private String content;
+}
@@ -0,0 +1,25 @@
+package org.example.springdeveloper.dto;
+
+import lombok.Getter;
+import org.example.springdeveloper.domain.ArticleAttachment;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ArticleAttachmentResponse { // 첨부 파일 메타데이터 응답 DTO
+    private final Long id;
+    private final String fileName;
+    private final String contentType;
+    private final long size;
+    private final String sha256;
+    private final LocalDateTime createdAt;
+
+    public ArticleAttachmentResponse(ArticleAttachment attachment) {
+        this.id = attachment.getId();
+        this.fileName = attachment.getFileName();
+        this.contentType = attachment.getContentType();
+        this.size = attachment.getSize();
+        this.sha256 = attachment.getSha256();
+        this.createdAt = attachment.getCreatedAt();
+    }
+}
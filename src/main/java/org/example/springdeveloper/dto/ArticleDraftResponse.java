@@ -0,0 +1,22 @@
+package org.example.springdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.springdeveloper.domain.ArticleDraft;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Getter
+public class ArticleDraftResponse {
+
+    private final Long articleId;
+    private final String title;
+    private final String content;
+    private final LocalDateTime savedAt;
+    private final boolean flushed; // 이미 임시 저장 테이블에 기록되었는지 (false면 아직 메모리에만 있음)
+
+    public ArticleDraftResponse(ArticleDraft draft) {
+        this(draft.getArticleId(), draft.getTitle(), draft.getContent(), draft.getSavedAt(), true);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.springdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 대량 가져오기 실행 결과입니다. 건수는 체크포인트를 포함한 누적 값입니다.
+ */
+@AllArgsConstructor
+@Getter
+public class ArticleImportResult {
+
+    private final String source;       // 가져온 파일 경로
+    private final long lastRecord;     // 마지막으로 커밋된 레코드 번호
+    private final long importedCount;  // 저장에 성공한 레코드 수
+    private final long failedCount;    // 파싱/검증에 실패한 레코드 수
+    private final String failedRows;   // 실패한 레코드가 기록된 파일 경로
+    private final Duration elapsed;    // 이번 실행에 걸린 시간
+}
@@ -1,15 +1,24 @@
 package org.example.springdeveloper.dto;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.domain.Tag;
 
+import java.util.List;
+
+@NoArgsConstructor // JSON/CBOR/Smile 응답을 다시 역직렬화하는 클라이언트를 위한 기본 생성자입니다.
 @Getter // Lombok 어노테이션을 사용하여 모든 필드에 대한 getter 메서드를 자동 생성합니다.
 public class ArticleResponse {
 
+    // 게시글의 고유 ID (태그별 목록의 다음 페이지 요청에 사용)
+    private Long id;
     // 클라이언트에게 전달할 게시글의 제목
     private String title;
     // 클라이언트에게 전달할 게시글의 내용
     private String content;
+    // 게시글에 붙은 태그 이름 목록
+    private List<String> tags;
 
     /**
      * Article 엔티티를 기반으로 ArticleResponse DTO를 생성하는 생성자입니다.
@@ -18,8 +27,10 @@ public class ArticleResponse {
      * @param article 변환할 Article 엔티티 객체
      */
     public ArticleResponse(Article article) {
+        this.id = article.getId();
         this.title = article.getTitle();   // Article 엔티티의 제목을 가져와서 설정
         this.content = article.getContent(); // Article 엔티티의 내용을 가져와서 설정
+        this.tags = article.getTags().stream().map(Tag::getName).toList(); // 태그 이름 목록
     }
 }
 
@@ -0,0 +1,15 @@
+package org.example.springdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Getter
+public class ArticleRevisionContentResponse { // 특정 리비전 시점으로 복원한 게시글
+    private final int revisionNumber;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,17 @@
+package org.example.springdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.springdeveloper.domain.ArticleRevision;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Getter
+public class ArticleRevisionResponse { // 리비전 목록 조회를 위한 DTO (본문 없이 메타데이터만)
+    private final Integer revisionNumber;
+    private final ArticleRevision.Type type;
+    private final String title;
+    private final Integer storedLength; // 저장된 payload 길이 (DELTA면 변경분의 크기)
+    private final LocalDateTime createdAt;
+}
@@ -3,8 +3,10 @@ package org.example.springdeveloper.dto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.domain.Tag;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @NoArgsConstructor
 @Getter
@@ -14,11 +16,13 @@ public class ArticleViewResponse {
     private String title;
     private String content;
     private LocalDateTime createdAt;
+    private List<String> tags = List.of();
 
     public ArticleViewResponse(Article article) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
         this.createdAt = article.getCreatedAt();
+        this.tags = article.getTags().stream().map(Tag::getName).toList();
     }
 }
@@ -0,0 +1,28 @@
+package org.example.springdeveloper.dto;
+
+import lombok.Getter;
+import org.example.springdeveloper.domain.Comment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class CommentResponse { // 댓글 트리 조회를 위한 DTO (답글을 replies에 중첩)
+    private final Long id;
+    private final Long parentId;
+    private final int depth;
+    private final String author;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final List<CommentResponse> replies = new ArrayList<>(); // 작성 순
+
+    public CommentResponse(Comment comment) {
+        this.id = comment.getId();
+        this.parentId = comment.getParentId();
+        this.depth = comment.getDepth();
+        this.author = comment.getAuthor();
+        this.content = comment.getContent();
+        this.createdAt = comment.getCreatedAt();
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.springdeveloper.dto;
+
+import lombok.Getter;
+import org.example.springdeveloper.domain.Tag;
+
+@Getter
+public class TagResponse { // 태그 목록 조회를 위한 DTO
+    private final String name;
+    private final long articleCount; // 태그가 붙은 게시글 수
+
+    public TagResponse(Tag tag) {
+        this.name = tag.getName();
+        this.articleCount = tag.getArticleCount();
+    }
+}
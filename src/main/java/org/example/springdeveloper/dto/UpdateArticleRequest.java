@@ -1,5 +1,8 @@
 package org.example.springdeveloper.dto;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,9 +12,13 @@ import lombok.NoArgsConstructor;
 @Getter // Lombok 어노테이션을 사용하여 모든 필드에 대한 getter 메서드를 자동 생성합니다.
 public class UpdateArticleRequest {
 
-    // 게시글 수정 요청에서 전달받을 제목
+    // 게시글 수정 요청에서 전달받을 제목 (title 컬럼 길이)
+    @NotBlank
+    @Size(max = 255)
     private String title;
 
-    // 게시글 수정 요청에서 전달받을 내용
+    // 게시글 수정 요청에서 전달받을 내용 (content 컬럼 길이)
+    @NotNull
+    @Size(max = 1_048_576)
     private String content;
 }
@@ -0,0 +1,21 @@
+package org.example.springdeveloper.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class UpdateArticleTagsRequest {
+
+    // 게시글에 붙일 태그 이름 목록 (기존 태그를 모두 교체, 빈 목록이면 모든 태그 제거)
+    @NotNull
+    @Size(max = 10)
+    private List<@NotBlank @Size(max = 50) String> tags;
+}
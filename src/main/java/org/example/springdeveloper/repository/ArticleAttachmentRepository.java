@@ -0,0 +1,23 @@
+package org.example.springdeveloper.repository;
+
+import org.example.springdeveloper.domain.ArticleAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArticleAttachmentRepository extends JpaRepository<ArticleAttachment, Long> {
+
+    // 삭제 표시된 게시글의 첨부 파일은 실제로 지워지기 전에도 조회되지 않도록 게시글 존재를 함께 확인 (Article의 @Where 적용)
+    @Query("select f from ArticleAttachment f where f.articleId = :articleId "
+            + "and exists (select a.id from Article a where a.id = :articleId) order by f.id")
+    List<ArticleAttachment> findByArticleIdOrderById(Long articleId);
+
+    @Query("select f from ArticleAttachment f where f.id = :id and f.articleId = :articleId "
+            + "and exists (select a.id from Article a where a.id = :articleId)")
+    Optional<ArticleAttachment> findByIdAndArticleId(Long id, Long articleId);
+
+    List<ArticleAttachment> findByArticleIdIn(Collection<Long> articleIds); // 삭제 표시된 게시글 정리용
+}
@@ -0,0 +1,17 @@
+package org.example.springdeveloper.repository;
+
+import org.example.springdeveloper.domain.ArticleDraft;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ArticleDraftRepository extends JpaRepository<ArticleDraft, Long> {
+    Optional<ArticleDraft> findByAuthorAndArticleId(String author, Long articleId); // 사용자·게시글별 임시 저장본 조회
+
+    @Modifying
+    @Query("delete from ArticleDraft d where d.articleId in :articleIds")
+    void deleteByArticleIdIn(Collection<Long> articleIds); // 삭제 표시된 게시글 정리 시 호출
+}
@@ -0,0 +1,7 @@
+package org.example.springdeveloper.repository;
+
+import org.example.springdeveloper.domain.ArticleImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArticleImportCheckpointRepository extends JpaRepository<ArticleImportCheckpoint, String> {
+}
@@ -0,0 +1,33 @@
+package org.example.springdeveloper.repository;
+
+import org.example.springdeveloper.domain.ArticleRevision;
+import org.example.springdeveloper.dto.ArticleRevisionResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArticleRevisionRepository extends JpaRepository<ArticleRevision, Long> {
+
+    Optional<ArticleRevision> findTopByArticleIdOrderByRevisionNumberDesc(Long articleId); // 가장 최근 리비전
+
+    // 주어진 리비전 이하에서 가장 가까운 스냅숏 (복원의 시작점)
+    Optional<ArticleRevision> findTopByArticleIdAndTypeAndRevisionNumberLessThanEqualOrderByRevisionNumberDesc(
+            Long articleId, ArticleRevision.Type type, int revisionNumber);
+
+    List<ArticleRevision> findByArticleIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(
+            Long articleId, int from, int to);
+
+    // 목록 조회에서는 payload를 읽지 않고 길이만 가져옴
+    @Query("select new org.example.springdeveloper.dto.ArticleRevisionResponse("
+            + "r.revisionNumber, r.type, r.title, length(r.payload), r.createdAt) "
+            + "from ArticleRevision r where r.articleId = :articleId order by r.revisionNumber desc")
+    List<ArticleRevisionResponse> findSummariesByArticleId(Long articleId);
+
+    @Modifying
+    @Query("delete from ArticleRevision r where r.articleId in :articleIds")
+    void deleteByArticleIdIn(Collection<Long> articleIds);
+}
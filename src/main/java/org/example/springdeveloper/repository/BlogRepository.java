@@ -1,7 +1,18 @@
 package org.example.springdeveloper.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.springdeveloper.domain.Article;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * BlogRepository 인터페이스는 Spring Data JPA의 JpaRepository를 확장하여
@@ -10,4 +21,78 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface BlogRepository extends JpaRepository<Article, Long> {
     // 추가적인 커스텀 쿼리 메서드를 선언할 수 있습니다.
+
+    // 모든 게시글을 태그와 함께 한 번의 쿼리로 조회 (fetch join)
+    @EntityGraph(attributePaths = "tags")
+    @Query("select a from Article a order by a.id")
+    List<Article> findAllWithTags();
+
+    // 게시글 하나를 태그와 함께 조회 (캐시에 보관하기 전에 태그까지 읽어 둠)
+    @EntityGraph(attributePaths = "tags")
+    Optional<Article> findWithTagsById(Long id);
+
+    // 태그가 붙은 게시글을 id 순으로 조회 (태그 이름의 유일 인덱스와 연결 테이블의 tag_id 인덱스 사용, 키셋 페이지네이션)
+    // 이 쿼리에서 태그를 fetch join하면 조건에 맞는 태그만 채워지므로, 태그는 @BatchSize로 따로 읽음
+    @Query("select a from Article a join a.tags t where t.name = :tag and a.id > :afterId order by a.id")
+    List<Article> findByTagAfter(String tag, long afterId, Pageable pageable);
+
+    // 게시글에 붙은 태그의 id 목록 (삭제 시 태그별 게시글 수 감소용, 삭제 표시 전에 호출해야 함)
+    @Query("select t.id from Article a join a.tags t where a.id = :articleId")
+    List<Long> findTagIds(long articleId);
+
+    // 게시글 하나를 쓰기 잠금(select ... for update)으로 조회 (수정과 리비전 기록을 게시글 단위로 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Article a where a.id = :id")
+    Optional<Article> findByIdForUpdate(long id);
+
+    // id가 주어진 값보다 큰 게시글을 id 순으로 조회 (키셋 페이지네이션, 개수는 pageable로 제한하며 count 쿼리 없음)
+    List<Article> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // id가 주어진 값보다 큰 게시글의 id만 id 순으로 조회 (블룸 필터 생성용)
+    @Query("select a.id from Article a where a.id > :afterId order by a.id")
+    List<Long> findIdsAfter(long afterId, Pageable pageable);
+
+    // 세그먼트에서 아직 참조되고 있는 본문 바이트 수 (압축 여부 판단용)
+    // 삭제 표시된 글은 제외되므로, 그 본문은 실제 삭제를 기다리지 않고 바로 회수 대상이 됨
+    @Query("select coalesce(sum(a.bodyLength), 0) from Article a where a.bodySegment = :segment")
+    long sumBodyLengthBySegment(int segment);
+
+    // 세그먼트에 본문이 저장된 게시글의 위치 목록 (엔티티를 로드하지 않음)
+    @Query("select a.id as id, a.bodyOffset as bodyOffset, a.bodyLength as bodyLength "
+            + "from Article a where a.bodySegment = :segment")
+    List<BodyLocation> findBodyLocationsBySegment(int segment);
+
+    // 압축으로 옮긴 본문의 위치를 갱신 (그 사이 본문이 수정되었으면 갱신하지 않음)
+    @Modifying
+    @Query("update Article a set a.bodySegment = :newSegment, a.bodyOffset = :newOffset "
+            + "where a.id = :id and a.bodySegment = :oldSegment and a.bodyOffset = :oldOffset")
+    int relocateBody(Long id, int oldSegment, long oldOffset, int newSegment, long newOffset);
+
+    // 게시글에 삭제 표시 (행을 읽지 않고 갱신 한 번, 이미 삭제 표시된 글이면 0 반환)
+    @Modifying
+    @Query("update Article a set a.deletedAt = :deletedAt where a.id = :id and a.deletedAt is null")
+    int markDeleted(long id, LocalDateTime deletedAt);
+
+    // 삭제 표시된 지 cutoff보다 오래된 게시글 id를 오래된 순으로 최대 limit개 (@Where를 피하기 위해 네이티브 쿼리)
+    @Query(value = "select id from article where deleted_at < :cutoff order by deleted_at limit :limit",
+            nativeQuery = true)
+    List<Long> findDeletedIdsBefore(LocalDateTime cutoff, int limit);
+
+    // 게시글과 태그의 연결 행 삭제 (태그별 게시글 수는 삭제 표시 때 이미 줄였음)
+    @Modifying
+    @Query(value = "delete from article_tag where article_id in (:ids)", nativeQuery = true)
+    int deleteTagLinks(Collection<Long> ids);
+
+    // 삭제 표시된 게시글 행을 실제로 삭제
+    @Modifying
+    @Query(value = "delete from article where id in (:ids) and deleted_at is not null", nativeQuery = true)
+    int purge(Collection<Long> ids);
+
+    interface BodyLocation {
+        Long getId();
+
+        Long getBodyOffset();
+
+        Integer getBodyLength();
+    }
 }
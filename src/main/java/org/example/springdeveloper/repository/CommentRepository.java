@@ -0,0 +1,30 @@
+package org.example.springdeveloper.repository;
+
+import org.example.springdeveloper.domain.Comment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    Optional<Comment> findByIdAndArticleId(Long id, Long articleId);
+
+    // id가 afterId보다 큰 최상위 댓글 size개와 그 하위 댓글 전체를 깊이 우선 순서로 한 쿼리에 읽음 (키셋 페이지네이션)
+    // 최상위 댓글은 (article_id, depth, id), 하위 트리는 (root_id, path) 인덱스를 사용
+    // 삭제 표시된 게시글의 댓글은 실제로 지워지기 전에도 조회되지 않음
+    @Query(value = "select c.* from article_comment c "
+            + "join (select r.id from article_comment r "
+            + "where r.article_id = :articleId and r.depth = 0 and r.id > :afterId "
+            + "and exists (select 1 from article a where a.id = :articleId and a.deleted_at is null) "
+            + "order by r.id limit :size) roots on c.root_id = roots.id "
+            + "order by c.path", nativeQuery = true)
+    List<Comment> findPageByArticleId(Long articleId, long afterId, int size);
+
+    @Modifying
+    @Query("delete from Comment c where c.articleId in :articleIds")
+    void deleteByArticleIdIn(Collection<Long> articleIds);
+}
@@ -0,0 +1,22 @@
+package org.example.springdeveloper.repository;
+
+import org.example.springdeveloper.domain.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // 게시글이 많이 붙은 순서로 모든 태그 조회
+    List<Tag> findAllByOrderByArticleCountDescNameAsc();
+
+    // 태그별 게시글 수를 엔티티를 읽지 않고 증감
+    @Modifying
+    @Query("update Tag t set t.articleCount = t.articleCount + :delta where t.id in :ids")
+    int addArticleCount(Collection<Long> ids, long delta);
+}
@@ -0,0 +1,202 @@
+package org.example.springdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springdeveloper.domain.ArticleAttachment;
+import org.example.springdeveloper.repository.ArticleAttachmentRepository;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 게시글 첨부 파일을 디스크에 저장하고 조회하는 서비스입니다.
+ * 업로드는 요청 본문을 고정 크기 버퍼로 나눠 읽어 바로 파일에 쓰면서 크기 제한 검사와 SHA-256 계산을 함께 하므로,
+ * 파일 크기와 관계없이 힙을 거의 쓰지 않습니다.
+ */
+@Slf4j
+@Service
+public class ArticleAttachmentService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ArticleAttachmentRepository articleAttachmentRepository;
+    private final BlogRepository blogRepository;
+    private final Path directory;
+    private final long maxSizeBytes;
+
+    public ArticleAttachmentService(ArticleAttachmentRepository articleAttachmentRepository,
+                                    BlogRepository blogRepository,
+                                    @Value("${blog.attachment.directory:./data/attachments}") Path directory,
+                                    @Value("${blog.attachment.max-size-bytes:20971520}") long maxSizeBytes) {
+        this.articleAttachmentRepository = articleAttachmentRepository;
+        this.blogRepository = blogRepository;
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * 첨부 파일을 저장합니다. 임시 파일에 모두 기록한 뒤 최종 이름으로 옮기고 메타데이터를 저장합니다.
+     *
+     * @param articleId 첨부할 게시글 id
+     * @param fileName 원래 파일 이름
+     * @param contentType 파일 형식 (없으면 application/octet-stream)
+     * @param declaredLength 요청의 Content-Length (모르면 -1)
+     * @param body 파일 내용
+     * @return 저장된 ArticleAttachment 엔티티
+     * @throws ArticleNotFoundException 게시글이 존재하지 않을 경우
+     * @throws AttachmentTooLargeException 파일이 허용 크기를 넘을 경우
+     */
+    public ArticleAttachment upload(long articleId, String fileName, String contentType, long declaredLength,
+                                    InputStream body) throws IOException {
+        if (!blogRepository.existsById(articleId)) {
+            throw new ArticleNotFoundException(articleId);
+        }
+        if (declaredLength > maxSizeBytes) {
+            throw new AttachmentTooLargeException(maxSizeBytes); // 본문을 읽기 전에 거절
+        }
+
+        Files.createDirectories(directory);
+        String storageKey = UUID.randomUUID().toString();
+        Path temp = directory.resolve(storageKey + ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size = copy(body, temp, digest);
+            Files.move(temp, path(storageKey), StandardCopyOption.ATOMIC_MOVE);
+
+            ArticleAttachment attachment = articleAttachmentRepository.save(ArticleAttachment.builder()
+                    .articleId(articleId)
+                    .fileName(fileName)
+                    .contentType(contentType == null ? "application/octet-stream" : contentType)
+                    .size(size)
+                    .sha256(HexFormat.of().formatHex(digest.digest()))
+                    .storageKey(storageKey)
+                    .build());
+            log.debug("Stored attachment {} for article {} ({} bytes)", attachment.getId(), articleId, size);
+            return attachment;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            Files.deleteIfExists(path(storageKey));
+            throw e;
+        }
+    }
+
+    public List<ArticleAttachment> findAttachments(long articleId) {
+        return articleAttachmentRepository.findByArticleIdOrderById(articleId);
+    }
+
+    /**
+     * @throws AttachmentNotFoundException 첨부 파일이 존재하지 않을 경우
+     */
+    public ArticleAttachment findAttachment(long articleId, long attachmentId) {
+        return articleAttachmentRepository.findByIdAndArticleId(attachmentId, articleId)
+                .orElseThrow(() -> new AttachmentNotFoundException(attachmentId));
+    }
+
+    /**
+     * 첨부 파일을 읽기 전용 채널로 엽니다. (호출한 쪽에서 닫아야 함)
+     */
+    public FileChannel open(ArticleAttachment attachment) throws IOException {
+        return FileChannel.open(path(attachment.getStorageKey()), StandardOpenOption.READ);
+    }
+
+    /**
+     * 첨부 파일이 저장된 경로 (서블릿 컨테이너의 sendfile에 넘기기 위해 사용)
+     */
+    public Path path(ArticleAttachment attachment) {
+        return path(attachment.getStorageKey());
+    }
+
+    /**
+     * 첨부 파일 하나를 삭제합니다. 파일은 메타데이터 삭제가 커밋된 뒤에 지웁니다.
+     */
+    public void delete(long articleId, long attachmentId) {
+        ArticleAttachment attachment = findAttachment(articleId, attachmentId);
+        articleAttachmentRepository.delete(attachment);
+        deleteFilesAfterCommit(List.of(attachment));
+    }
+
+    /**
+     * 게시글들의 모든 첨부 파일을 삭제합니다. (삭제 표시된 게시글 정리 시 호출)
+     */
+    public void deleteAttachments(Collection<Long> articleIds) {
+        List<ArticleAttachment> attachments = articleAttachmentRepository.findByArticleIdIn(articleIds);
+        articleAttachmentRepository.deleteAllInBatch(attachments);
+        deleteFilesAfterCommit(attachments);
+    }
+
+    // 고정 크기 다이렉트 버퍼로 복사하며 크기 제한 검사와 해시 계산을 같이 함
+    private long copy(InputStream body, Path target, MessageDigest digest) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long size = 0;
+        try (ReadableByteChannel in = Channels.newChannel(body);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (in.read(buffer) >= 0) {
+                buffer.flip();
+                size += buffer.remaining();
+                if (size > maxSizeBytes) {
+                    throw new AttachmentTooLargeException(maxSizeBytes);
+                }
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+            out.force(true);
+        }
+        return size;
+    }
+
+    private void deleteFilesAfterCommit(List<ArticleAttachment> attachments) {
+        if (attachments.isEmpty()) {
+            return;
+        }
+        Runnable deleteFiles = () -> attachments.forEach(attachment -> {
+            try {
+                Files.deleteIfExists(path(attachment.getStorageKey()));
+            } catch (IOException e) {
+                log.warn("Failed to delete attachment file {}", attachment.getStorageKey(), e);
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteFiles.run();
+                }
+            });
+        } else {
+            deleteFiles.run();
+        }
+    }
+
+    private Path path(String storageKey) {
+        return directory.resolve(storageKey);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.springdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springdeveloper.config.invalidation.InvalidationBus;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * 행 밖 본문 세그먼트의 백그라운드 압축(compaction)을 수행합니다.
+ * 게시글 삭제·수정으로 더 이상 참조되지 않는 영역이 많아진 세그먼트는 살아 있는 본문만 현재 세그먼트로 옮긴 뒤 폐기합니다.
+ */
+@Slf4j
+@Service
+public class ArticleBodyCompactor {
+
+    private final ArticleBodyStore articleBodyStore;
+    private final BlogRepository blogRepository;
+    private final InvalidationBus invalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    private final double liveRatio;
+
+    public ArticleBodyCompactor(ArticleBodyStore articleBodyStore, BlogRepository blogRepository,
+                                InvalidationBus invalidationBus, PlatformTransactionManager transactionManager,
+                                @Value("${blog.body-store.compaction-live-ratio:0.5}") double liveRatio) {
+        this.articleBodyStore = articleBodyStore;
+        this.blogRepository = blogRepository;
+        this.invalidationBus = invalidationBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.liveRatio = liveRatio;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.body-store.compaction-interval-ms:60000}")
+    public void compact() throws IOException {
+        // 지난 주기에 폐기한 세그먼트는 그 사이 읽기가 끝났으므로 이제 삭제
+        articleBodyStore.deleteRetiredSegments();
+
+        int active = articleBodyStore.activeSegment();
+        for (int segment : articleBodyStore.segments()) {
+            if (segment == active || articleBodyStore.isRetired(segment)) {
+                continue;
+            }
+            long size = articleBodyStore.segmentSize(segment);
+            long live = blogRepository.sumBodyLengthBySegment(segment);
+            if (live >= size * liveRatio) {
+                continue;
+            }
+            int moved = live == 0 ? 0 : relocate(segment);
+            articleBodyStore.retire(segment);
+            log.info("Compacted article body segment {}: {} of {} bytes live, {} bodies moved", segment, live, size, moved);
+        }
+    }
+
+    // 살아 있는 본문을 현재 세그먼트 끝으로 복사하고 행의 위치를 한 트랜잭션으로 갱신
+    private int relocate(int segment) {
+        return transactionTemplate.execute(status -> {
+            int moved = 0;
+            List<BlogRepository.BodyLocation> locations = blogRepository.findBodyLocationsBySegment(segment);
+            for (BlogRepository.BodyLocation location : locations) {
+                ByteBuffer body = articleBodyStore.slice(segment, location.getBodyOffset(), location.getBodyLength());
+                ArticleBodyStore.BodyRef ref = articleBodyStore.append(body);
+                int updated = blogRepository.relocateBody(location.getId(), segment, location.getBodyOffset(),
+                        ref.segment(), ref.offset());
+                if (updated > 0) {
+                    // 캐시된 게시글이 폐기될 세그먼트를 계속 가리키지 않도록 커밋 후 비움
+                    invalidationBus.publish(ArticleCache.ENTITY_TYPE, location.getId());
+                    moved += updated;
+                }
+            }
+            return moved;
+        });
+    }
+}
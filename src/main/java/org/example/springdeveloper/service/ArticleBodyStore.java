@@ -0,0 +1,215 @@
+package org.example.springdeveloper.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springdeveloper.domain.ArticleBodySource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 큰 게시글 본문을 로컬 디스크의 추가 전용(append-only) 세그먼트 파일에 저장하는 저장소입니다.
+ * 데이터베이스 행에는 (세그먼트, 오프셋, 길이)만 남기고, 본문은 메모리 맵(FileChannel.map)으로 읽습니다.
+ * 세그먼트 파일은 덮어쓰지 않으며, 삭제·수정으로 버려진 영역은 ArticleBodyCompactor가 회수합니다.
+ */
+@Slf4j
+@Service
+public class ArticleBodyStore implements ArticleBodySource {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    private final boolean enabled;
+    private final int thresholdBytes;
+    private final long segmentSizeBytes;
+    private final Path directory;
+
+    private final Map<Integer, MappedByteBuffer> mappedSegments = new ConcurrentHashMap<>();
+    private final List<Integer> retiredSegments = new ArrayList<>(); // 압축이 끝나 다음 주기에 삭제할 세그먼트
+
+    private FileChannel activeChannel; // 현재 기록 중인 세그먼트 (append 시에만 열림)
+    private int activeSegment;
+
+    public ArticleBodyStore(@Value("${blog.body-store.enabled:false}") boolean enabled,
+                            @Value("${blog.body-store.threshold-bytes:16384}") int thresholdBytes,
+                            @Value("${blog.body-store.segment-size-bytes:67108864}") long segmentSizeBytes,
+                            @Value("${blog.body-store.directory:./data/article-bodies}") Path directory) throws IOException {
+        // 본문 위치는 MappedByteBuffer의 int 인덱스로 잘라 읽으므로 세그먼트가 2GB를 넘으면 오프셋이 넘침
+        if (segmentSizeBytes <= 0 || segmentSizeBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("blog.body-store.segment-size-bytes must be between 1 and "
+                    + Integer.MAX_VALUE + ": " + segmentSizeBytes);
+        }
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.directory = directory;
+        this.activeSegment = segments().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * 본문을 행 밖에 저장해야 하는지 판단합니다.
+     */
+    public boolean shouldStore(String content) {
+        // 문자 수 * 3이 기준 이하면 UTF-8 인코딩 없이 바로 판단 가능
+        return enabled && content != null && content.length() * 3L > thresholdBytes
+                && content.getBytes(StandardCharsets.UTF_8).length > thresholdBytes;
+    }
+
+    /**
+     * 본문을 현재 세그먼트 끝에 기록하고 위치를 반환합니다.
+     * 행이 이 위치를 참조하기 전에 디스크에 반영되도록 force 후 반환합니다.
+     */
+    public BodyRef append(String content) {
+        return append(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 바이트를 현재 세그먼트 끝에 기록하고 위치를 반환합니다. (압축 시 재배치에 사용)
+     */
+    public synchronized BodyRef append(ByteBuffer bytes) {
+        try {
+            int length = bytes.remaining();
+            FileChannel channel = activeChannel(length);
+            long offset = channel.size();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes, offset + (length - bytes.remaining()));
+            }
+            channel.force(false);
+            return new BodyRef(activeSegment, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to append article body to segment " + activeSegment, e);
+        }
+    }
+
+    @Override
+    public String read(int segment, long offset, int length) {
+        return StandardCharsets.UTF_8.decode(slice(segment, offset, length)).toString();
+    }
+
+    @Override
+    public ByteBuffer slice(int segment, long offset, int length) {
+        long end = offset + length;
+        MappedByteBuffer mapped = mappedSegments.get(segment);
+        if (mapped == null || mapped.capacity() < end) {
+            // 기록 중인 세그먼트는 계속 커지므로, 매핑된 범위를 벗어나면 다시 매핑
+            mapped = mappedSegments.compute(segment, (key, current) ->
+                    current != null && current.capacity() >= end ? current : map(key));
+        }
+        if (mapped.capacity() < end) {
+            throw new IllegalStateException("article body out of segment range: " + segment + "@" + offset);
+        }
+        return mapped.slice((int) offset, length).asReadOnlyBuffer();
+    }
+
+    /**
+     * 현재 기록 중인 세그먼트 번호를 반환합니다. 이 세그먼트는 압축 대상에서 제외됩니다.
+     */
+    public synchronized int activeSegment() {
+        return activeSegment;
+    }
+
+    /**
+     * 디스크에 있는 세그먼트 번호 목록을 반환합니다.
+     */
+    public List<Integer> segments() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Integer.parseInt(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    public long segmentSize(int segment) throws IOException {
+        return Files.size(segmentPath(segment));
+    }
+
+    /**
+     * 더 이상 참조되지 않는 세그먼트를 폐기 대상으로 표시합니다.
+     * 이미 로드된 엔티티가 아직 읽고 있을 수 있으므로 실제 파일 삭제는 다음 deleteRetiredSegments 호출 때 합니다.
+     */
+    public synchronized void retire(int segment) {
+        if (!retiredSegments.contains(segment)) {
+            retiredSegments.add(segment);
+        }
+    }
+
+    public synchronized boolean isRetired(int segment) {
+        return retiredSegments.contains(segment);
+    }
+
+    /**
+     * 폐기 대상으로 표시된 세그먼트 파일을 삭제합니다.
+     * 이미 매핑된 버퍼는 파일이 삭제된 뒤에도 유효하므로 진행 중인 읽기는 영향을 받지 않습니다.
+     */
+    public synchronized void deleteRetiredSegments() throws IOException {
+        for (Integer segment : retiredSegments) {
+            mappedSegments.remove(segment);
+            Files.deleteIfExists(segmentPath(segment));
+            log.info("Deleted compacted article body segment {}", segment);
+        }
+        retiredSegments.clear();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (activeChannel != null) {
+            activeChannel.close();
+        }
+    }
+
+    // 기록할 공간이 부족하면 새 세그먼트로 넘어감 (매핑 한도를 넘지 않도록 세그먼트 크기를 제한)
+    private FileChannel activeChannel(int length) throws IOException {
+        if (activeChannel != null && activeChannel.size() > 0 && activeChannel.size() + length > segmentSizeBytes) {
+            activeChannel.close();
+            activeChannel = null;
+            activeSegment++;
+        }
+        if (activeChannel == null) {
+            if (activeSegment == 0) {
+                activeSegment = 1;
+            }
+            Files.createDirectories(directory);
+            activeChannel = FileChannel.open(segmentPath(activeSegment),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        return activeChannel;
+    }
+
+    private MappedByteBuffer map(int segment) {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to map article body segment " + segment, e);
+        }
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * 세그먼트 파일에 기록된 본문의 위치입니다.
+     */
+    public record BodyRef(int segment, long offset, int length) {
+    }
+}
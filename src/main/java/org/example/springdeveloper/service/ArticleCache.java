@@ -0,0 +1,161 @@
+package org.example.springdeveloper.service;
+
+import org.example.springdeveloper.config.invalidation.InvalidationListener;
+import org.example.springdeveloper.domain.Article;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단건 조회한 게시글을 노드 안에 보관하는 캐시입니다.
+ * 게시글이 바뀌면 InvalidationBus를 통해 이 노드와 다른 노드의 항목이 함께 비워집니다.
+ * 보관하는 엔티티는 영속성 컨텍스트에서 분리된 상태이며 읽기 전용으로만 사용합니다.
+ *
+ * 크기는 항목 수와 추정 바이트 수 두 가지로 제한하고, 가득 차면 clock(second chance) 방식으로 최근에 읽히지 않은 항목부터 내보냅니다.
+ * 본문이 행 밖(세그먼트 파일)에 있는 글과 max-entry-bytes보다 큰 글은 보관하지 않습니다. (행 밖 본문은 메모리 맵에서 바로 읽음)
+ */
+@Component
+public class ArticleCache implements InvalidationListener {
+
+    public static final String ENTITY_TYPE = "article";
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256; // 엔티티·태그 집합·맵 항목 등 본문 외의 대략적인 크기
+
+    private final Map<Long, Entry> articles = new ConcurrentHashMap<>();
+    // 보관한 순서대로 돌며 내보낼 항목을 고르는 시곗바늘 (무효화로 빠진 항목은 지나갈 때 버림)
+    private final Queue<Entry> clock = new ArrayDeque<>();
+    // 무효화가 일어날 때마다 증가 (조회하는 사이에 무효화된 이전 값을 캐시에 넣지 않기 위해 사용)
+    private final AtomicLong invalidations = new AtomicLong();
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private long bytes; // 보관 중인 항목의 추정 바이트 합 (this로 동기화)
+
+    public ArticleCache(@Value("${blog.cache.article.max-entries:10000}") int maxEntries,
+                        @Value("${blog.cache.article.max-bytes:67108864}") long maxBytes,
+                        @Value("${blog.cache.article.max-entry-bytes:262144}") long maxEntryBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+    }
+
+    public Article get(long id) {
+        Entry entry = articles.get(id);
+        if (entry == null) {
+            return null;
+        }
+        entry.referenced = true;
+        return entry.article;
+    }
+
+    /**
+     * DB 조회 직전에 받아 두고 put에 넘기는 값입니다.
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * 조회한 게시글을 보관합니다. 조회하는 사이에 무효화가 있었거나, 보관하지 않는 글이면 무시합니다.
+     * 공간이 부족하면 최근에 읽히지 않은 항목부터 내보냅니다.
+     */
+    public void put(Article article, long stamp) {
+        if (maxEntries <= 0 || article.hasOffRowBody()) {
+            return;
+        }
+        long weight = weigh(article);
+        if (weight > maxEntryBytes) {
+            return;
+        }
+        synchronized (this) {
+            // 무효화도 같은 잠금 안에서 번호를 올리므로, 여기서 같으면 조회 이후 무효화가 없었음
+            if (invalidations.get() != stamp) {
+                return;
+            }
+            remove(article.getId());
+            while (!clock.isEmpty() && (articles.size() >= maxEntries || bytes + weight > maxBytes)) {
+                evictOne();
+            }
+            Entry entry = new Entry(article, weight);
+            articles.put(article.getId(), entry);
+            clock.add(entry);
+            bytes += weight;
+        }
+    }
+
+    @Override
+    public String entityType() {
+        return ENTITY_TYPE;
+    }
+
+    @Override
+    public synchronized void invalidate(long id, long version) {
+        invalidations.incrementAndGet();
+        remove(id);
+        // 무효화로 빠진 항목이 시곗바늘에 쌓이지 않도록 가끔 정리
+        if (clock.size() > 2 * articles.size() + 64) {
+            clock.removeIf(entry -> entry.removed);
+        }
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        invalidations.incrementAndGet();
+        articles.clear();
+        clock.clear();
+        bytes = 0;
+    }
+
+    public int size() {
+        return articles.size();
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    // 최근에 읽힌 항목은 표시만 지우고 뒤로 보내며, 읽히지 않은 첫 항목을 내보냄
+    private void evictOne() {
+        Entry entry = clock.poll();
+        if (entry == null || entry.removed) {
+            return;
+        }
+        if (entry.referenced) {
+            entry.referenced = false;
+            clock.add(entry);
+        } else {
+            remove(entry.article.getId());
+        }
+    }
+
+    private void remove(long id) {
+        Entry entry = articles.remove(id);
+        if (entry != null) {
+            entry.removed = true;
+            bytes -= entry.weight;
+        }
+    }
+
+    // 문자열은 문자당 최대 2바이트로 추정
+    private static long weigh(Article article) {
+        long chars = article.getTitle().length() + (long) article.getContent().length();
+        return ENTRY_OVERHEAD_BYTES + 2 * chars + 64L * article.getTags().size();
+    }
+
+    private static final class Entry {
+        private final Article article;
+        private final long weight;
+        private volatile boolean referenced;
+        private boolean removed; // 캐시에서 빠졌으면 true (시곗바늘에서 만나면 버림)
+
+        private Entry(Article article, long weight) {
+            this.article = article;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.example.springdeveloper.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.domain.ArticleDraft;
+import org.example.springdeveloper.dto.ArticleDraftResponse;
+import org.example.springdeveloper.dto.UpdateArticleRequest;
+import org.example.springdeveloper.repository.ArticleDraftRepository;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 자동 저장(autosave)을 처리하는 서비스입니다.
+ * 편집기에서 들어온 임시 저장 요청은 사용자·게시글별 최신 상태 하나만 메모리에 남기고(연속 저장 병합),
+ * 일정 주기마다 또는 게시(publish) 시점에만 데이터베이스에 기록합니다.
+ * 따라서 DB 쓰기 횟수는 키 입력이나 저장 요청 빈도가 아니라 편집 중인 글 수와 주기에만 비례합니다.
+ * 주기적 기록은 저장본마다 짧은 트랜잭션으로 하므로, 기록할 수 없는 저장본 하나가 다른 사용자의 저장본을 막지 않습니다.
+ */
+@Slf4j
+@Service
+public class ArticleDraftService {
+
+    private final ArticleDraftRepository articleDraftRepository;
+    private final BlogRepository blogRepository;
+    private final BlogService blogService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxPending;
+
+    // 아직 DB에 기록되지 않은 최신 임시 저장본 (같은 키로 다시 저장하면 덮어써서 병합됨)
+    private final Map<DraftKey, PendingDraft> pendingDrafts = new ConcurrentHashMap<>();
+    // 주기적 기록과 게시가 같은 임시 저장본을 동시에 다루지 않도록 직렬화
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ArticleDraftService(ArticleDraftRepository articleDraftRepository, BlogRepository blogRepository,
+                               BlogService blogService, PlatformTransactionManager transactionManager,
+                               @Value("${blog.draft.max-pending:1000}") int maxPending) {
+        this.articleDraftRepository = articleDraftRepository;
+        this.blogRepository = blogRepository;
+        this.blogService = blogService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 임시 저장본을 메모리에 보관합니다.
+     * 이미 보관 중인 저장본을 덮어쓸 때는 DB에 접근하지 않고, 새로 보관할 때만 게시글이 있는지 확인합니다.
+     * 보관 중인 저장본 수가 상한에 도달하면 기록 주기를 앞당겨 비우고, 그래도 자리가 없으면 거절합니다.
+     *
+     * @param author 임시 저장하는 사용자
+     * @param articleId 수정 중인 게시글 id
+     * @param request 편집기의 현재 제목과 내용 (길이는 컨트롤러에서 검증)
+     * @throws ArticleNotFoundException 게시글이 없거나 삭제된 경우
+     * @throws DraftBufferFullException 보관 중인 저장본이 너무 많은 경우
+     */
+    public void save(String author, long articleId, UpdateArticleRequest request) {
+        DraftKey key = new DraftKey(author, articleId);
+        if (!pendingDrafts.containsKey(key)) {
+            if (!blogRepository.existsById(articleId)) {
+                throw new ArticleNotFoundException(articleId);
+            }
+            if (pendingDrafts.size() >= maxPending) {
+                flushEarly();
+                if (pendingDrafts.size() >= maxPending) {
+                    throw new DraftBufferFullException(maxPending);
+                }
+            }
+        }
+        pendingDrafts.put(key, new PendingDraft(request.getTitle(), request.getContent(), LocalDateTime.now()));
+    }
+
+    /**
+     * 최신 임시 저장본을 조회합니다. 아직 기록되지 않은 메모리의 저장본이 우선입니다.
+     *
+     * @throws ArticleNotFoundException 게시글이 없거나 삭제된 경우
+     */
+    public Optional<ArticleDraftResponse> find(String author, long articleId) {
+        if (!blogRepository.existsById(articleId)) {
+            throw new ArticleNotFoundException(articleId);
+        }
+        PendingDraft pending = pendingDrafts.get(new DraftKey(author, articleId));
+        if (pending != null) {
+            return Optional.of(new ArticleDraftResponse(articleId, pending.title(), pending.content(),
+                    pending.savedAt(), false));
+        }
+        return articleDraftRepository.findByAuthorAndArticleId(author, articleId)
+                .map(ArticleDraftResponse::new);
+    }
+
+    /**
+     * 임시 저장본을 게시글에 반영하고 임시 저장본을 삭제합니다.
+     *
+     * @return 수정된 Article 엔티티
+     * @throws ArticleNotFoundException 게시글이 없거나 삭제된 경우
+     * @throws DraftNotFoundException 임시 저장본이 존재하지 않을 경우
+     */
+    public Article publish(String author, long articleId) {
+        DraftKey key = new DraftKey(author, articleId);
+        flushLock.lock();
+        PendingDraft pending = pendingDrafts.remove(key);
+        try {
+            return transactionTemplate.execute(status -> {
+                if (!blogRepository.existsById(articleId)) {
+                    throw new ArticleNotFoundException(articleId);
+                }
+                Optional<ArticleDraft> stored = articleDraftRepository.findByAuthorAndArticleId(author, articleId);
+                if (pending == null && stored.isEmpty()) {
+                    throw new DraftNotFoundException(articleId);
+                }
+                UpdateArticleRequest request = pending != null
+                        ? new UpdateArticleRequest(pending.title(), pending.content())
+                        : new UpdateArticleRequest(stored.get().getTitle(), stored.get().getContent());
+
+                Article article = blogService.update(articleId, request);
+                stored.ifPresent(articleDraftRepository::delete);
+                return article;
+            });
+        } catch (RuntimeException e) {
+            // 롤백되었으므로 메모리의 저장본을 되돌려 놓음 (그 사이 더 새로운 저장본이 들어왔으면 그것을 유지)
+            if (pending != null) {
+                pendingDrafts.putIfAbsent(key, pending);
+            }
+            throw e;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 임시 저장본을 버립니다. (게시글을 직접 수정했거나 편집을 취소한 경우)
+     */
+    public void discard(String author, long articleId) {
+        flushLock.lock();
+        try {
+            pendingDrafts.remove(new DraftKey(author, articleId));
+            transactionTemplate.executeWithoutResult(status ->
+                    articleDraftRepository.findByAuthorAndArticleId(author, articleId)
+                            .ifPresent(articleDraftRepository::delete));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 메모리에 모인 임시 저장본을 저장본마다 별도 트랜잭션으로 기록합니다.
+     * 기록 중 새로 들어온 저장본은 다음 주기에 기록됩니다. 일시적인 오류로 실패하면 더 새로운 저장본이 없는 것만 되돌려 놓고,
+     * 다시 시도해도 실패할 오류(제약 조건 위반 등)면 그 저장본은 버립니다.
+     */
+    @Scheduled(fixedDelayString = "${blog.draft.flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingDrafts.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            Map<DraftKey, PendingDraft> batch = new HashMap<>();
+            for (Map.Entry<DraftKey, PendingDraft> entry : pendingDrafts.entrySet()) {
+                if (pendingDrafts.remove(entry.getKey(), entry.getValue())) {
+                    batch.put(entry.getKey(), entry.getValue());
+                }
+            }
+            batch.forEach(this::flushDraft);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 상한에 도달했을 때 요청 스레드에서 바로 기록 (다른 스레드가 이미 기록 중이면 기다리지 않음)
+    private void flushEarly() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 애플리케이션 종료 시 메모리에 남은 임시 저장본을 잃지 않도록 마지막으로 기록
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 일시적인 오류(연결 실패, 잠금 대기 시간 초과 등)만 다음 주기에 다시 시도
+    private void flushDraft(DraftKey key, PendingDraft pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> upsert(key, pending));
+        } catch (TransientDataAccessException | RecoverableDataAccessException | DataAccessResourceFailureException
+                 | CannotCreateTransactionException e) {
+            pendingDrafts.putIfAbsent(key, pending);
+            log.warn("Failed to flush article draft {}, will retry", key, e);
+        } catch (RuntimeException e) {
+            log.warn("Dropping article draft {} that cannot be stored", key, e);
+        }
+    }
+
+    private void upsert(DraftKey key, PendingDraft pending) {
+        if (!blogRepository.existsById(key.articleId())) {
+            log.debug("Dropping draft for missing article {}", key.articleId());
+            return;
+        }
+        articleDraftRepository.findByAuthorAndArticleId(key.author(), key.articleId())
+                .ifPresentOrElse(
+                        draft -> draft.update(pending.title(), pending.content(), pending.savedAt()),
+                        () -> articleDraftRepository.save(ArticleDraft.builder()
+                                .author(key.author())
+                                .articleId(key.articleId())
+                                .title(pending.title())
+                                .content(pending.content())
+                                .savedAt(pending.savedAt())
+                                .build()));
+    }
+
+    private record DraftKey(String author, long articleId) {
+    }
+
+    private record PendingDraft(String title, String content, LocalDateTime savedAt) {
+    }
+}
@@ -0,0 +1,263 @@
+package org.example.springdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springdeveloper.config.invalidation.InvalidationListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 존재하는 게시글 id의 블룸 필터입니다.
+ * "없음"이라고 답하면 실제로 없는 id이므로 DB를 조회하지 않고 바로 404로 응답할 수 있습니다.
+ * ("있을 수 있음"은 오탐일 수 있으므로 DB로 확인)
+ *
+ * 새 게시글 id는 무효화 버스를 통해 커밋 후 이 노드와 다른 노드의 필터에 추가됩니다.
+ * 다른 노드의 id는 묶음 주기와 유실 감지 시간만큼 늦게 도착하므로, 그 사이 "없음"이라 답하지 않도록
+ * 필터가 확실히 아는 가장 큰 id(만들 때 읽은 최대 id, 또는 추가된 지 new-id-grace-ms가 지난 최대 id)보다
+ * 큰 id는 항상 "있을 수 있음"으로 답합니다. (id는 IDENTITY로 증가하므로 새 글은 항상 이 값보다 큼)
+ * 블룸 필터는 항목을 지울 수 없으므로, 삭제된 id가 많아지거나 메시지 유실로 필터를 믿을 수 없게 되면
+ * ArticleIdBloomFilterLoader가 DB의 id 목록으로 다시 만듭니다. 만들어지기 전에는 항상 "있을 수 있음"으로 답합니다.
+ */
+@Slf4j
+@Component
+public class ArticleIdBloomFilter implements InvalidationListener {
+
+    public static final String ENTITY_TYPE = "article-id";
+
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long maxMemoryBytes;
+    private final long newIdGraceNanos;
+
+    private volatile Bits bits; // 현재 사용하는 필터 (null이면 아직 없거나 믿을 수 없음)
+    private volatile Bits building; // 다시 만드는 중인 필터 (그 사이 추가된 id도 함께 기록)
+
+    private final AtomicLong deletesSinceBuild = new AtomicLong();
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public ArticleIdBloomFilter(@Value("${blog.bloom-filter.enabled:true}") boolean enabled,
+                                @Value("${blog.bloom-filter.expected-insertions:100000}") long expectedInsertions,
+                                @Value("${blog.bloom-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${blog.bloom-filter.max-memory-bytes:4194304}") long maxMemoryBytes,
+                                @Value("${blog.bloom-filter.new-id-grace-ms:5000}") long newIdGraceMillis) {
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.newIdGraceNanos = newIdGraceMillis * 1_000_000;
+    }
+
+    /**
+     * id가 존재할 수 있는지 확인합니다.
+     *
+     * @return false면 확실히 없는 id, true면 DB로 확인해야 함
+     */
+    public boolean mightContain(long id) {
+        Bits current = bits;
+        if (!enabled || current == null) {
+            return true;
+        }
+        checks.increment();
+        current.advanceKnownMaxId(System.nanoTime(), newIdGraceNanos);
+        if (id > current.knownMaxId) {
+            return true; // 다른 노드에서 만든 새 글의 id가 아직 도착하지 않았을 수 있음
+        }
+        boolean result = current.mightContain(id);
+        if (!result) {
+            negatives.increment();
+        }
+        return result;
+    }
+
+    /**
+     * 새 게시글 id를 추가합니다. (커밋된 뒤에 호출되어야 다시 만드는 중인 필터에서도 빠지지 않음)
+     */
+    public void add(long id) {
+        Bits current = bits;
+        if (current != null) {
+            current.add(id);
+        }
+        Bits next = building;
+        if (next != null) {
+            next.add(id);
+        }
+    }
+
+    // "있을 수 있음"이라 답했지만 DB에 없던 경우
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    // 삭제된 id는 필터에서 지울 수 없으므로 개수만 세어 다시 만들 시점을 판단
+    public void recordDelete() {
+        deletesSinceBuild.incrementAndGet();
+    }
+
+    /**
+     * 다시 만들어야 하는지 판단합니다.
+     *
+     * @param maxDeleteRatio 만든 뒤 삭제된 id의 비율이 이 값을 넘으면 다시 만듦
+     */
+    public boolean needsRebuild(double maxDeleteRatio) {
+        Bits current = bits;
+        return enabled && (current == null
+                || current.insertions.get() > current.capacity
+                || deletesSinceBuild.get() > current.insertions.get() * maxDeleteRatio);
+    }
+
+    /**
+     * 주어진 id 목록으로 필터를 새로 만들어 교체합니다.
+     *
+     * @param count 현재 게시글 수 (필터 크기 결정에 사용)
+     * @param idSource 받은 LongConsumer에 모든 id를 넘기는 함수
+     */
+    public synchronized void rebuild(long count, Consumer<LongConsumer> idSource) {
+        Bits next = new Bits(Math.max(expectedInsertions, count * 2), falsePositiveRate, maxMemoryBytes);
+        building = next;
+        try {
+            deletesSinceBuild.set(0);
+            AtomicLong scannedMaxId = new AtomicLong();
+            idSource.accept(id -> {
+                next.add(id);
+                scannedMaxId.accumulateAndGet(id, Math::max);
+            });
+            next.knownMaxId = scannedMaxId.get(); // 만드는 동안 버스로 추가된 id는 유예 시간이 지난 뒤에 반영
+            next.tickNanos = System.nanoTime();
+            bits = next;
+        } finally {
+            building = null;
+        }
+        log.info("Built article id bloom filter: {} ids, {} bytes, {} hash functions, estimated false positive rate {}",
+                next.insertions.get(), next.words.length() * 8L, next.numHashes, next.estimatedFalsePositiveRate());
+    }
+
+    public Stats stats() {
+        Bits current = bits;
+        if (current == null) {
+            return new Stats(enabled, false, 0, 0, 0, falsePositiveRate, 0, 0, 0, 0, 0, 0);
+        }
+        return new Stats(enabled, true, current.numBits, current.words.length() * 8L, current.numHashes,
+                falsePositiveRate, current.estimatedFalsePositiveRate(), current.insertions.get(),
+                deletesSinceBuild.get(), checks.sum(), negatives.sum(), falsePositives.sum());
+    }
+
+    @Override
+    public String entityType() {
+        return ENTITY_TYPE;
+    }
+
+    @Override
+    public void invalidate(long id, long version) {
+        add(id);
+    }
+
+    // 추가 메시지가 유실되었을 수 있으므로 다시 만들 때까지 필터를 쓰지 않음
+    @Override
+    public void invalidateAll() {
+        bits = null;
+    }
+
+    // 주기적 에포크 초기화는 유실이 있었다는 뜻이 아니므로 필터를 유지함 (비우면 모든 노드가 전체 id를 다시 읽게 됨)
+    @Override
+    public void epochReset() {
+    }
+
+    /**
+     * 필터 상태와 조회 통계입니다.
+     */
+    public record Stats(boolean enabled, boolean ready, long bits, long memoryBytes, int hashFunctions,
+                        double configuredFalsePositiveRate, double estimatedFalsePositiveRate,
+                        long insertions, long deletesSinceBuild,
+                        long checks, long negatives, long falsePositives) {
+    }
+
+    // 잠금 없이 동시에 추가할 수 있는 비트 배열 (id마다 numHashes개의 비트를 이중 해싱으로 선택)
+    private static final class Bits {
+        private final AtomicLongArray words;
+        private final long numBits;
+        private final int numHashes;
+        private final long capacity;
+        private final AtomicLong insertions = new AtomicLong();
+        private final AtomicLong addedMaxId = new AtomicLong(); // 지금까지 추가된 가장 큰 id
+
+        // 이 값 이하의 id는 모두 필터에 들어 있음. 아래 세 값은 rebuild 또는 advanceKnownMaxId(this 잠금)에서만 변경
+        private volatile long knownMaxId;
+        private long candidateMaxId; // 직전 주기에 기록한 addedMaxId (유예 시간이 지나면 knownMaxId로 반영)
+        private volatile long tickNanos;
+
+        Bits(long capacity, double falsePositiveRate, long maxMemoryBytes) {
+            // 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 함수 수 k = m / n * ln 2
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            long limitedBits = Math.max(64, Math.min(optimalBits, maxMemoryBytes * 8));
+            this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE, (limitedBits + 63) / 64));
+            this.numBits = words.length() * 64L;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * Math.log(2)));
+            this.capacity = capacity;
+        }
+
+        void add(long id) {
+            long hash1 = mix(id);
+            long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, numBits);
+                long mask = 1L << bit;
+                int index = (int) (bit >>> 6);
+                long word = words.get(index);
+                while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+            }
+            insertions.incrementAndGet();
+            addedMaxId.accumulateAndGet(id, Math::max);
+        }
+
+        // 유예 시간마다, 한 주기 전까지 추가된 최대 id를 확실히 아는 id로 올림
+        // (그 사이 더 작은 id의 추가 메시지가 유실되었다면 하트비트로 감지되어 필터 전체가 무효화됨)
+        void advanceKnownMaxId(long nowNanos, long graceNanos) {
+            if (nowNanos - tickNanos < graceNanos) {
+                return;
+            }
+            synchronized (this) {
+                if (nowNanos - tickNanos < graceNanos) {
+                    return;
+                }
+                knownMaxId = Math.max(knownMaxId, candidateMaxId);
+                candidateMaxId = addedMaxId.get();
+                tickNanos = nowNanos;
+            }
+        }
+
+        boolean mightContain(long id) {
+            long hash1 = mix(id);
+            long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, numBits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 현재 추가된 수 기준의 오탐률 (1 - e^(-kn/m))^k
+        double estimatedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-(double) numHashes * insertions.get() / numBits), numHashes);
+        }
+
+        // 연속된 id도 고르게 퍼지도록 섞음 (SplitMix64 마무리 단계)
+        private static long mix(long value) {
+            long z = value + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
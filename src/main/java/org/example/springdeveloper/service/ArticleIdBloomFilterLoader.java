@@ -0,0 +1,63 @@
+package org.example.springdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 게시글 id 블룸 필터를 시작 시점에 만들고, 삭제가 많아졌거나 필터를 믿을 수 없게 되면 다시 만듭니다.
+ * id만 키셋 페이지네이션으로 나눠 읽으므로 엔티티를 로드하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ArticleIdBloomFilterLoader {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    private final ArticleIdBloomFilter articleIdBloomFilter;
+    private final BlogRepository blogRepository;
+    private final double maxDeleteRatio;
+    private volatile boolean started;
+
+    public ArticleIdBloomFilterLoader(ArticleIdBloomFilter articleIdBloomFilter, BlogRepository blogRepository,
+                                      @Value("${blog.bloom-filter.rebuild-delete-ratio:0.2}") double maxDeleteRatio) {
+        this.articleIdBloomFilter = articleIdBloomFilter;
+        this.blogRepository = blogRepository;
+        this.maxDeleteRatio = maxDeleteRatio;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        started = true;
+        rebuildIfNeeded();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.bloom-filter.rebuild-check-interval-ms:10000}")
+    public void rebuildIfNeeded() {
+        if (!started || !articleIdBloomFilter.needsRebuild(maxDeleteRatio)) {
+            return;
+        }
+        try {
+            articleIdBloomFilter.rebuild(blogRepository.count(), consumer -> {
+                long afterId = 0;
+                List<Long> ids;
+                do {
+                    ids = blogRepository.findIdsAfter(afterId, PageRequest.of(0, CHUNK_SIZE));
+                    ids.forEach(consumer::accept);
+                    if (!ids.isEmpty()) {
+                        afterId = ids.get(ids.size() - 1);
+                    }
+                } while (ids.size() == CHUNK_SIZE);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to build article id bloom filter, will retry", e); // 그동안은 모든 id를 DB로 확인
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.springdeveloper.service;
+
+/**
+ * 대량 가져오기에서 지원하는 입력 파일 형식입니다.
+ */
+public enum ArticleImportFormat {
+
+    NDJSON, // 한 줄에 JSON 객체 하나 ({"title": ..., "content": ...})
+    CSV;    // 첫 줄이 헤더(title,content)인 RFC 4180 형식 CSV
+
+    /**
+     * 설정 값(대소문자 무관)을 형식으로 변환합니다.
+     * @param value "ndjson" 또는 "csv"
+     * @return 대응하는 형식
+     * @throws IllegalArgumentException 지원하지 않는 형식일 경우
+     */
+    public static ArticleImportFormat from(String value) {
+        for (ArticleImportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("unsupported import format: " + value);
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.springdeveloper.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.domain.ArticleImportCheckpoint;
+import org.example.springdeveloper.dto.AddArticleRequest;
+import org.example.springdeveloper.dto.ArticleImportResult;
+import org.example.springdeveloper.repository.ArticleImportCheckpointRepository;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON / CSV 파일의 게시글을 대량으로 가져오는 서비스입니다.
+ * 레코드를 스트리밍으로 읽어 AddArticleRequest 제약 조건으로 검증한 뒤, 고정 크기 배치 단위의 트랜잭션으로 저장합니다.
+ * 배치와 체크포인트가 같은 트랜잭션에서 커밋되므로, 중단된 가져오기를 다시 실행하면 중복 없이 이어서 처리됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleImportService {
+
+    private final BlogRepository blogRepository;
+    private final ArticleImportCheckpointRepository checkpointRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${blog.import.batch-size:500}") // 한 트랜잭션에서 처리할 레코드 수 (메모리 사용량의 상한)
+    private int batchSize;
+
+    /**
+     * 파일을 가져옵니다. 같은 파일에 대한 체크포인트가 있으면 그 다음 레코드부터 시작합니다.
+     * 실패한 레코드는 "원본파일.failed"에 레코드 번호와 사유를 탭으로 구분하여 추가 기록합니다.
+     *
+     * @param source 가져올 파일
+     * @param format 파일 형식
+     * @return 누적 가져오기 결과
+     * @throws IOException 파일을 읽거나 실패 목록을 쓸 수 없을 경우
+     */
+    public ArticleImportResult importFile(Path source, ArticleImportFormat format) throws IOException {
+        long startedAt = System.nanoTime();
+        String sourceKey = source.toAbsolutePath().normalize().toString();
+        ArticleImportCheckpoint checkpoint = checkpointRepository.findById(sourceKey)
+                .orElseGet(() -> new ArticleImportCheckpoint(sourceKey));
+        Path failedRows = source.resolveSibling(source.getFileName() + ".failed");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        if (checkpoint.getRecordNumber() > 0) {
+            log.info("Resuming import of {} after record {}", sourceKey, checkpoint.getRecordNumber());
+        }
+
+        try (ArticleRecordReader reader = ArticleRecordReader.open(source, format, objectMapper);
+             BufferedWriter failedWriter = Files.newBufferedWriter(failedRows, StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            reader.skipTo(checkpoint.getRecordNumber());
+
+            List<Article> batch = new ArrayList<>(batchSize);
+            List<String> failures = new ArrayList<>();
+            long lastRecord = checkpoint.getRecordNumber();
+            ArticleRecordReader.ArticleRecord record;
+
+            while ((record = reader.next()) != null) {
+                String error = record.error() != null ? record.error() : validate(record.request());
+                if (error == null) {
+                    batch.add(record.request().toEntity());
+                } else {
+                    failures.add(record.number() + "\t" + error);
+                }
+                lastRecord = record.number();
+
+                if (batch.size() + failures.size() >= batchSize) {
+                    commit(transactionTemplate, checkpoint, batch, failures, lastRecord, failedWriter);
+                }
+            }
+            if (lastRecord > checkpoint.getRecordNumber()) {
+                commit(transactionTemplate, checkpoint, batch, failures, lastRecord, failedWriter);
+            }
+        }
+
+        log.info("Import of {} finished: {} imported, {} failed", sourceKey,
+                checkpoint.getImportedCount(), checkpoint.getFailedCount());
+        return new ArticleImportResult(sourceKey, checkpoint.getRecordNumber(), checkpoint.getImportedCount(),
+                checkpoint.getFailedCount(), failedRows.toString(), Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    // 배치와 체크포인트를 하나의 트랜잭션으로 저장하고, 커밋된 뒤에만 실패 목록을 파일에 남김
+    private void commit(TransactionTemplate transactionTemplate, ArticleImportCheckpoint checkpoint,
+                        List<Article> batch, List<String> failures, long lastRecord,
+                        BufferedWriter failedWriter) throws IOException {
+        checkpoint.advance(lastRecord, batch.size(), failures.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            blogRepository.saveAll(batch);
+            checkpointRepository.save(checkpoint);
+        });
+
+        for (String failure : failures) {
+            failedWriter.write(failure);
+            failedWriter.newLine();
+        }
+        failedWriter.flush();
+
+        log.info("Import progress {}: record {}, {} imported, {} failed", checkpoint.getSource(),
+                lastRecord, checkpoint.getImportedCount(), checkpoint.getFailedCount());
+        batch.clear();
+        failures.clear();
+    }
+
+    // 제약 조건 위반 메시지를 "필드: 메시지" 형태로 합쳐 반환하고, 위반이 없으면 null
+    private String validate(AddArticleRequest request) {
+        Set<ConstraintViolation<AddArticleRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.springdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.springdeveloper.repository.ArticleDraftRepository;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 표시된 게시글을 보관 기간이 지난 뒤 백그라운드에서 실제로 삭제합니다.
+ * 주기마다 batch-size개씩 짧은 트랜잭션 하나로 지우므로, 대량 삭제도 초당 batch-size / interval 이하의 속도로 나뉘어
+ * 요청 경로의 잠금이나 지연에 영향을 주지 않습니다.
+ * 리비전, 댓글, 첨부 파일(파일은 커밋 후), 임시 저장본, 태그 연결 행을 먼저 지우고 게시글 행을 지웁니다.
+ */
+@Slf4j
+@Service
+public class ArticlePurger {
+
+    private final BlogRepository blogRepository;
+    private final ArticleRevisionService articleRevisionService;
+    private final CommentService commentService;
+    private final ArticleAttachmentService articleAttachmentService;
+    private final ArticleDraftRepository articleDraftRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public ArticlePurger(BlogRepository blogRepository, ArticleRevisionService articleRevisionService,
+                         CommentService commentService, ArticleAttachmentService articleAttachmentService,
+                         ArticleDraftRepository articleDraftRepository, PlatformTransactionManager transactionManager,
+                         @Value("${blog.purge.retention-minutes:1440}") long retentionMinutes,
+                         @Value("${blog.purge.batch-size:100}") int batchSize) {
+        this.blogRepository = blogRepository;
+        this.articleRevisionService = articleRevisionService;
+        this.commentService = commentService;
+        this.articleAttachmentService = articleAttachmentService;
+        this.articleDraftRepository = articleDraftRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.purge.interval-ms:1000}")
+    public void purge() {
+        try {
+            purgeBefore(LocalDateTime.now().minus(retention));
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge deleted articles, will retry", e);
+        }
+    }
+
+    /**
+     * cutoff 이전에 삭제 표시된 게시글을 오래된 순으로 최대 batch-size개 실제로 삭제합니다.
+     *
+     * @return 삭제한 게시글 수
+     */
+    public int purgeBefore(LocalDateTime cutoff) {
+        Integer purged = transactionTemplate.execute(status -> {
+            List<Long> ids = blogRepository.findDeletedIdsBefore(cutoff, batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            articleRevisionService.deleteRevisions(ids);
+            commentService.deleteComments(ids);
+            articleAttachmentService.deleteAttachments(ids);
+            articleDraftRepository.deleteByArticleIdIn(ids);
+            blogRepository.deleteTagLinks(ids);
+            return blogRepository.purge(ids);
+        });
+        if (purged != null && purged > 0) {
+            log.debug("Purged {} deleted articles", purged);
+        }
+        return purged == null ? 0 : purged;
+    }
+}
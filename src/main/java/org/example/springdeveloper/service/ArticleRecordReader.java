@@ -0,0 +1,247 @@
+package org.example.springdeveloper.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springdeveloper.dto.AddArticleRequest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NDJSON / CSV 파일에서 게시글 레코드를 한 건씩 읽어오는 리더입니다.
+ * 파일 전체를 메모리에 올리지 않고 NIO 채널 기반의 BufferedReader로 스트리밍하므로,
+ * 메모리 사용량은 파일 크기가 아니라 레코드 하나의 크기에 비례합니다.
+ */
+class ArticleRecordReader implements Closeable {
+
+    // 줄바꿈 없는 NDJSON 줄이나 닫히지 않은 따옴표 때문에 파일 끝까지 한 레코드로 읽어 들이는 것을 막기 위한 상한
+    private static final int MAX_RECORD_CHARS = 8 * 1024 * 1024;
+
+    // 상한을 넘어 내용을 버린 NDJSON 레코드 (실패 레코드로 기록됨)
+    private static final Object RECORD_TOO_LONG = new Object();
+
+    private final BufferedReader reader;
+    private final ArticleImportFormat format;
+    private final ObjectMapper objectMapper;
+
+    private int titleColumn = -1;   // CSV 헤더에서 찾은 title 컬럼 위치
+    private int contentColumn = -1; // CSV 헤더에서 찾은 content 컬럼 위치
+    private long recordNumber;      // 지금까지 읽은 레코드 번호 (1부터 시작)
+
+    private final char[] buffer = new char[8192];
+    private int position;           // buffer에서 다음에 읽을 위치
+    private int limit;              // buffer에 채워진 문자 수
+    private boolean skipLineFeed;   // 직전 줄이 \r로 끝나서 이어지는 \n을 건너뛰어야 하는지
+    private boolean lineTooLong;    // 마지막으로 읽은 줄이 상한을 넘어 버려졌는지
+
+    private ArticleRecordReader(BufferedReader reader, ArticleImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 파일을 열고, CSV인 경우 헤더를 읽어 컬럼 위치를 결정합니다.
+     */
+    static ArticleRecordReader open(Path source, ArticleImportFormat format, ObjectMapper objectMapper) throws IOException {
+        ArticleRecordReader recordReader = new ArticleRecordReader(
+                Files.newBufferedReader(source, StandardCharsets.UTF_8), format, objectMapper);
+        if (format == ArticleImportFormat.CSV) {
+            recordReader.readCsvHeader();
+        }
+        return recordReader;
+    }
+
+    /**
+     * 주어진 레코드 번호까지 내용을 해석하지 않고 건너뜁니다. (체크포인트 재개용)
+     * @param lastRecord 건너뛸 마지막 레코드 번호
+     */
+    void skipTo(long lastRecord) throws IOException {
+        while (recordNumber < lastRecord && readRaw() != null) {
+            // 해석(JSON 파싱, 검증) 없이 레코드 경계만 따라감
+        }
+    }
+
+    /**
+     * 다음 레코드를 읽습니다. 파싱에 실패한 레코드도 error가 채워진 채로 반환되어 실패 목록에 남습니다.
+     * @return 다음 레코드, 파일 끝이면 null
+     */
+    ArticleRecord next() throws IOException {
+        Object raw = readRaw();
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return new ArticleRecord(recordNumber, toRequest(raw), null);
+        } catch (JsonProcessingException e) {
+            return new ArticleRecord(recordNumber, null, e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return new ArticleRecord(recordNumber, null, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // NDJSON은 비어 있지 않은 한 줄, CSV는 필드 목록을 반환
+    private Object readRaw() throws IOException {
+        Object raw;
+        if (format == ArticleImportFormat.NDJSON) {
+            String line;
+            do {
+                line = readLine();
+            } while (line != null && !lineTooLong && line.isBlank());
+            raw = lineTooLong ? RECORD_TOO_LONG : line;
+        } else {
+            raw = readCsvRecord();
+        }
+        if (raw != null) {
+            recordNumber++;
+        }
+        return raw;
+    }
+
+    @SuppressWarnings("unchecked")
+    private AddArticleRequest toRequest(Object raw) throws JsonProcessingException {
+        if (raw == RECORD_TOO_LONG) {
+            throw new IllegalArgumentException("record exceeds " + MAX_RECORD_CHARS + " characters");
+        }
+        if (format == ArticleImportFormat.NDJSON) {
+            return objectMapper.readValue((String) raw, AddArticleRequest.class);
+        }
+        List<String> fields = (List<String>) raw;
+        if (fields.size() <= Math.max(titleColumn, contentColumn)) {
+            throw new IllegalArgumentException("expected at least " + (Math.max(titleColumn, contentColumn) + 1)
+                    + " columns but got " + fields.size());
+        }
+        return new AddArticleRequest(fields.get(titleColumn), fields.get(contentColumn));
+    }
+
+    private void readCsvHeader() throws IOException {
+        List<String> header = readCsvRecord();
+        if (header == null) {
+            throw new IOException("empty CSV file: header (title,content) is required");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            if (name.equalsIgnoreCase("title")) {
+                titleColumn = i;
+            } else if (name.equalsIgnoreCase("content")) {
+                contentColumn = i;
+            }
+        }
+        if (titleColumn < 0 || contentColumn < 0) {
+            throw new IOException("CSV header must contain title and content columns: " + header);
+        }
+    }
+
+    // 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이중 따옴표("")를 처리하는 최소한의 CSV 파서
+    private List<String> readCsvRecord() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return null;
+        }
+        if (lineTooLong) {
+            throw new IOException("CSV record exceeds " + MAX_RECORD_CHARS + " characters after record " + recordNumber);
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            // 따옴표 안의 줄바꿈: 다음 줄까지 이어서 하나의 필드로 읽음
+            line = readLine();
+            if (line == null || lineTooLong || field.length() + line.length() > MAX_RECORD_CHARS) {
+                throw new IOException("unterminated quoted CSV field after record " + recordNumber);
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * BufferedReader.readLine과 같이 \n, \r, \r\n으로 끝나는 한 줄을 읽지만, MAX_RECORD_CHARS를 넘는 줄은
+     * 메모리에 쌓지 않고 줄 끝까지 건너뛴 뒤 lineTooLong을 표시하고 빈 문자열을 반환합니다.
+     * @return 읽은 줄, 파일 끝이면 null
+     */
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        boolean read = false;
+        lineTooLong = false;
+        while (true) {
+            if (position == limit && !fill()) {
+                return read ? line.toString() : null;
+            }
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
+            read = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n' && buffer[position] != '\r') {
+                position++;
+            }
+            if (!lineTooLong) {
+                if (line.length() + (position - start) > MAX_RECORD_CHARS) {
+                    lineTooLong = true;
+                    line = new StringBuilder(); // 지금까지 모은 내용은 버림
+                } else {
+                    line.append(buffer, start, position - start);
+                }
+            }
+            if (position < limit) {
+                skipLineFeed = buffer[position] == '\r';
+                position++;
+                return line.toString();
+            }
+        }
+    }
+
+    // 버퍼가 비었을 때 다음 문자들을 채움
+    private boolean fill() throws IOException {
+        int count = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(count, 0);
+        return count > 0;
+    }
+
+    /**
+     * 읽어 들인 레코드 한 건입니다. 파싱에 실패하면 request는 null이고 error에 사유가 담깁니다.
+     */
+    record ArticleRecord(long number, AddArticleRequest request, String error) {
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.springdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.domain.ArticleRevision;
+import org.example.springdeveloper.dto.ArticleRevisionContentResponse;
+import org.example.springdeveloper.dto.ArticleRevisionResponse;
+import org.example.springdeveloper.repository.ArticleRevisionRepository;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 수정 이력을 저장하고 복원하는 서비스입니다.
+ * 리비전은 직전 리비전 대비 변경분(delta)으로 저장하고, 일정 간격마다 본문 전체(snapshot)를 저장하여
+ * 임의의 리비전을 복원할 때 적용해야 하는 delta 수를 snapshot-interval - 1 이하로 제한합니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ArticleRevisionService {
+
+    private final ArticleRevisionRepository articleRevisionRepository;
+    // 삭제 표시된 게시글의 리비전은 실제로 지워지기 전에도 조회되지 않도록 게시글 존재를 확인 (Article의 @Where 적용)
+    private final BlogRepository blogRepository;
+
+    @Value("${blog.revision.snapshot-interval:10}") // 몇 리비전마다 본문 전체를 저장할지
+    private int snapshotInterval;
+
+    /**
+     * 새로 생성된 게시글의 첫 리비전(스냅숏)을 기록합니다.
+     */
+    public void recordCreated(Article article) {
+        articleRevisionRepository.save(snapshot(article.getId(), 1, article.getTitle(), article.getContent()));
+    }
+
+    /**
+     * 수정된 게시글의 리비전을 기록합니다. 호출하는 쪽의 트랜잭션에 참여합니다.
+     * 호출하는 쪽은 게시글 행을 쓰기 잠금으로 읽은 뒤 수정 전 본문을 얻어야 합니다.
+     * 잠금 없이 두 수정이 같은 본문을 기준으로 삼으면, 뒤의 리비전이 직전 리비전이 아닌 옛 본문 기준의
+     * delta로 저장되어 복원 결과가 깨집니다. (리비전 번호가 달라 유일 제약으로는 막히지 않음)
+     *
+     * @param article 수정이 반영된 게시글
+     * @param previousTitle 수정 전 제목
+     * @param previousContent 수정 전 본문 (직전 리비전의 본문과 같음)
+     */
+    public void recordUpdated(Article article, String previousTitle, String previousContent) {
+        Optional<ArticleRevision> latest = articleRevisionRepository.findTopByArticleIdOrderByRevisionNumberDesc(article.getId());
+        int next;
+        if (latest.isEmpty()) {
+            // 이력 기록 이전에 만들어진 게시글(data.sql, 대량 가져오기 등)은 수정 전 상태를 첫 스냅숏으로 남김
+            articleRevisionRepository.save(snapshot(article.getId(), 1, previousTitle, previousContent));
+            next = 2;
+        } else {
+            next = latest.get().getRevisionNumber() + 1;
+        }
+
+        String content = article.getContent();
+        String delta = TextDelta.diff(previousContent, content);
+        // 주기가 돌아왔거나 delta가 본문보다 커서 이득이 없으면 스냅숏으로 저장
+        if ((next - 1) % snapshotInterval == 0 || delta.length() >= content.length()) {
+            articleRevisionRepository.save(snapshot(article.getId(), next, article.getTitle(), content));
+        } else {
+            articleRevisionRepository.save(ArticleRevision.builder()
+                    .articleId(article.getId())
+                    .revisionNumber(next)
+                    .type(ArticleRevision.Type.DELTA)
+                    .title(article.getTitle())
+                    .payload(delta)
+                    .build());
+        }
+    }
+
+    /**
+     * 게시글의 리비전 목록을 최신순으로 조회합니다. (본문은 읽지 않음)
+     *
+     * @throws ArticleNotFoundException 게시글이 없거나 삭제된 경우
+     */
+    public List<ArticleRevisionResponse> findRevisions(long articleId) {
+        requireArticle(articleId);
+        return articleRevisionRepository.findSummariesByArticleId(articleId);
+    }
+
+    /**
+     * 특정 리비전 시점의 게시글을 복원합니다.
+     * 가장 가까운 이전 스냅숏부터 해당 리비전까지의 delta를 한 번의 조회로 읽어 차례로 적용합니다.
+     *
+     * @throws ArticleNotFoundException 게시글이 없거나 삭제된 경우
+     * @throws RevisionNotFoundException 해당 리비전이 존재하지 않을 경우
+     */
+    public ArticleRevisionContentResponse findRevision(long articleId, int revisionNumber) {
+        requireArticle(articleId);
+        ArticleRevision snapshot = articleRevisionRepository
+                .findTopByArticleIdAndTypeAndRevisionNumberLessThanEqualOrderByRevisionNumberDesc(
+                        articleId, ArticleRevision.Type.SNAPSHOT, revisionNumber)
+                .orElseThrow(() -> new RevisionNotFoundException(articleId, revisionNumber));
+        List<ArticleRevision> chain = articleRevisionRepository
+                .findByArticleIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(
+                        articleId, snapshot.getRevisionNumber(), revisionNumber);
+
+        ArticleRevision target = chain.get(chain.size() - 1);
+        if (target.getRevisionNumber() != revisionNumber) {
+            throw new RevisionNotFoundException(articleId, revisionNumber);
+        }
+        String content = snapshot.getPayload();
+        for (ArticleRevision revision : chain.subList(1, chain.size())) {
+            content = revision.getType() == ArticleRevision.Type.SNAPSHOT
+                    ? revision.getPayload()
+                    : TextDelta.apply(content, revision.getPayload());
+        }
+        return new ArticleRevisionContentResponse(revisionNumber, target.getTitle(), content, target.getCreatedAt());
+    }
+
+    /**
+     * 게시글들의 모든 리비전을 삭제합니다. (삭제 표시된 게시글 정리 시 호출)
+     */
+    public void deleteRevisions(Collection<Long> articleIds) {
+        articleRevisionRepository.deleteByArticleIdIn(articleIds);
+    }
+
+    private void requireArticle(long articleId) {
+        if (!blogRepository.existsById(articleId)) {
+            throw new ArticleNotFoundException(articleId);
+        }
+    }
+
+    private ArticleRevision snapshot(Long articleId, int revisionNumber, String title, String content) {
+        return ArticleRevision.builder()
+                .articleId(articleId)
+                .revisionNumber(revisionNumber)
+                .type(ArticleRevision.Type.SNAPSHOT)
+                .title(title)
+                .payload(content)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.springdeveloper.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 첨부 파일이 존재하지 않거나 다른 게시글의 첨부 파일일 때 발생하는 예외입니다. (404 Not Found로 응답)
+ * 존재하지 않는 id로 반복되는 요청이 많으므로 스택 트레이스를 만들지 않습니다.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class AttachmentNotFoundException extends IllegalArgumentException {
+
+    public AttachmentNotFoundException(long id) {
+        super("not found: " + id);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.springdeveloper.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 첨부 파일이 허용 크기를 넘을 때 발생하는 예외입니다. (413 Payload Too Large로 응답)
+ */
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class AttachmentTooLargeException extends RuntimeException {
+
+    public AttachmentTooLargeException(long maxSizeBytes) {
+        super("attachment exceeds " + maxSizeBytes + " bytes");
+    }
+}
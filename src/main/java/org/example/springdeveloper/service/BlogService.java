@@ -1,12 +1,17 @@
 package org.example.springdeveloper.service;
 
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.springdeveloper.config.invalidation.InvalidationBus;
 import org.example.springdeveloper.domain.Article;
 import org.example.springdeveloper.dto.AddArticleRequest;
 import org.example.springdeveloper.dto.UpdateArticleRequest;
 import org.example.springdeveloper.repository.BlogRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.List;
 
@@ -16,6 +21,17 @@ public class BlogService {
 
     // BlogRepository를 주입받아, 데이터베이스의 Article 엔티티에 대한 CRUD 작업을 수행합니다.
     private final BlogRepository blogRepository;
+    // 게시글 생성/수정 시 수정 이력(리비전)을 함께 기록합니다.
+    private final ArticleRevisionService articleRevisionService;
+    // 목록을 나눠 읽을 때 조회한 엔티티를 영속성 컨텍스트에서 분리하기 위해 사용합니다.
+    private final EntityManager entityManager;
+    // 단건 조회 캐시와, 수정·삭제 시 모든 노드의 캐시를 비우는 무효화 버스입니다.
+    private final ArticleCache articleCache;
+    private final InvalidationBus invalidationBus;
+    // 존재하지 않는 id 조회를 DB 접근 없이 걸러내는 블룸 필터입니다.
+    private final ArticleIdBloomFilter articleIdBloomFilter;
+    // 게시글 삭제 시 태그별 게시글 수를 줄입니다.
+    private final TagService tagService;
 
     /**
      * 블로그 글을 저장하는 메서드입니다.
@@ -25,39 +41,84 @@ public class BlogService {
      * @param request 게시글 생성 요청 DTO
      * @return 저장된 Article 엔티티
      */
+    @Transactional
     public Article save(AddArticleRequest request) {
-        return blogRepository.save(request.toEntity());
+        Article article = blogRepository.save(request.toEntity());
+        articleRevisionService.recordCreated(article);
+        return article;
     }
 
     /**
      * 데이터베이스에 저장된 모든 블로그 글을 조회하는 메서드입니다.
+     * 태그도 같은 쿼리에서 함께 읽으므로 글 수와 관계없이 쿼리는 한 번입니다.
      *
-     * @return 전체 Article 리스트
+     * @return 전체 Article 리스트 (id 오름차순)
      */
     public List<Article> findAll() {
-        return blogRepository.findAll();
+        return blogRepository.findAllWithTags();
+    }
+
+    /**
+     * id 순으로 afterId 다음의 블로그 글을 최대 size개 조회하는 메서드입니다. (키셋 페이지네이션)
+     * 조회한 엔티티는 영속성 컨텍스트에서 분리하므로, 요청 하나에서 목록 전체를 나눠 읽어도 메모리에 쌓이지 않습니다.
+     *
+     * @param afterId 직전에 읽은 마지막 게시글 id (처음이면 0)
+     * @param size 한 번에 읽을 최대 개수
+     * @return id 오름차순의 Article 리스트 (size보다 적으면 마지막 묶음)
+     */
+    public List<Article> findAllAfter(long afterId, int size) {
+        List<Article> articles = blogRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size));
+        // 분리하기 전에 태그를 읽어 둠 (첫 컬렉션 초기화 시 @BatchSize만큼 한 쿼리로 함께 읽힘)
+        articles.forEach(article -> article.getTags().size());
+        articles.forEach(entityManager::detach);
+        return articles;
     }
 
     /**
      * 주어진 id에 해당하는 블로그 글을 조회하는 메서드입니다.
-     * 만약 해당 id의 게시글이 없으면, IllegalArgumentException 예외를 발생시킵니다.
+     * 캐시에 있으면 DB에 접근하지 않으며, 반환된 엔티티는 읽기 전용으로만 사용해야 합니다.
+     * 블룸 필터가 확실히 없는 id라고 답하면 DB를 조회하지 않고 바로 예외를 발생시킵니다.
      *
      * @param id 조회할 게시글의 id
      * @return 조회된 Article 엔티티
-     * @throws IllegalArgumentException 해당 id의 게시글이 존재하지 않을 경우
+     * @throws ArticleNotFoundException 해당 id의 게시글이 존재하지 않을 경우
      */
     public Article findById(long id) {
-        return blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        Article cached = articleCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        if (!articleIdBloomFilter.mightContain(id)) {
+            throw new ArticleNotFoundException(id);
+        }
+        long stamp = articleCache.stamp();
+        Article article = blogRepository.findWithTagsById(id)
+                .orElseThrow(() -> {
+                    articleIdBloomFilter.recordFalsePositive();
+                    return new ArticleNotFoundException(id);
+                });
+        // 여러 요청이 공유하므로 영속성 컨텍스트에서 분리한 뒤 보관
+        entityManager.detach(article);
+        articleCache.put(article, stamp);
+        return article;
     }
 
     /**
      * 주어진 id에 해당하는 블로그 글을 삭제하는 메서드입니다.
+     * 행을 읽지 않고 삭제 시간만 표시하며(갱신 한 번), 표시된 글은 모든 조회에서 바로 제외됩니다.
+     * 리비전·댓글·첨부 파일 등과 행 자체는 보관 기간이 지난 뒤 ArticlePurger가 나눠서 삭제합니다.
      *
      * @param id 삭제할 게시글의 id
+     * @throws ArticleNotFoundException 해당 id의 게시글이 없거나 이미 삭제된 경우
      */
+    @Transactional
     public void delete(long id) {
-        blogRepository.deleteById(id);
+        tagService.releaseTags(id); // 태그 목록은 삭제 표시 전에만 조회됨
+        if (blogRepository.markDeleted(id, LocalDateTime.now()) == 0) {
+            throw new ArticleNotFoundException(id); // 트랜잭션이 롤백되어 태그별 게시글 수도 되돌아감
+        }
+        invalidationBus.publish(ArticleCache.ENTITY_TYPE, id);
+        articleIdBloomFilter.recordDelete();
     }
 
     /**
@@ -67,15 +128,22 @@ public class BlogService {
      * @param id 수정할 게시글의 id
      * @param request 게시글 수정 요청 DTO
      * @return 수정된 Article 엔티티
-     * @throws IllegalArgumentException 해당 id의 게시글이 존재하지 않을 경우
+     * @throws ArticleNotFoundException 해당 id의 게시글이 없거나 삭제된 경우
      */
     @Transactional
     public Article update(long id, UpdateArticleRequest request) {
-        // id에 해당하는 게시글을 조회합니다. 없으면 예외 발생
-        Article article = blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        // id에 해당하는 게시글을 쓰기 잠금으로 조회합니다. 없으면 예외 발생
+        // 동시에 들어온 수정은 여기서 차례를 기다리므로, 수정 전 본문과 직전 리비전이 항상 서로 맞음
+        Article article = blogRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ArticleNotFoundException(id));
+        String previousTitle = article.getTitle();
+        String previousContent = article.getContent();
         // 조회된 게시글의 제목과 내용을 수정합니다.
         article.update(request.getTitle(), request.getContent());
+        // 수정 전 본문과의 차이를 리비전으로 기록합니다.
+        articleRevisionService.recordUpdated(article, previousTitle, previousContent);
+        // 커밋 후 이 노드와 다른 노드의 캐시에서 이전 값을 비웁니다.
+        invalidationBus.publish(ArticleCache.ENTITY_TYPE, id);
         // 트랜잭션 커밋 시, 변경된 내용이 데이터베이스에 반영됩니다.
 
         return article;
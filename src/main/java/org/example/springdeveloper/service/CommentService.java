@@ -0,0 +1,90 @@
+package org.example.springdeveloper.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.example.springdeveloper.domain.Comment;
+import org.example.springdeveloper.dto.CommentResponse;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.example.springdeveloper.repository.CommentRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 댓글과 답글을 처리하는 서비스입니다.
+ * 댓글은 경로(path) 순으로 한 번에 읽고, 메모리에서 한 번 순회하며(O(n)) 트리로 조립합니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final BlogRepository blogRepository;
+
+    /**
+     * 댓글이나 답글을 추가합니다.
+     *
+     * @param articleId 게시글 id
+     * @param parentId 답글을 달 댓글 id (최상위 댓글이면 null)
+     * @param author 작성자
+     * @param content 댓글 내용
+     * @return 저장된 Comment 엔티티
+     * @throws ArticleNotFoundException 게시글이 존재하지 않을 경우
+     * @throws IllegalArgumentException 부모 댓글이 이 게시글에 존재하지 않을 경우
+     */
+    @Transactional
+    public Comment addComment(long articleId, Long parentId, String author, String content) {
+        if (!blogRepository.existsById(articleId)) {
+            throw new ArticleNotFoundException(articleId);
+        }
+        Comment parent = parentId == null ? null : commentRepository.findByIdAndArticleId(parentId, articleId)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + parentId));
+        Comment comment = commentRepository.save(Comment.builder()
+                .articleId(articleId)
+                .parent(parent)
+                .author(author)
+                .content(content)
+                .build());
+        comment.assignPath(); // IDENTITY로 id가 정해진 뒤에 경로를 완성
+        return comment;
+    }
+
+    /**
+     * id가 afterId보다 큰 최상위 댓글 최대 size개와 그 답글 전체를 조회합니다. (키셋 페이지네이션)
+     *
+     * @param afterId 직전 페이지의 마지막 최상위 댓글 id (처음이면 0)
+     * @return 작성 순의 최상위 댓글 목록 (답글은 replies에 중첩)
+     */
+    public List<CommentResponse> findComments(long articleId, long afterId, int size) {
+        return toTree(commentRepository.findPageByArticleId(articleId, afterId, size));
+    }
+
+    /**
+     * 게시글들의 댓글을 모두 삭제합니다. (삭제 표시된 게시글 정리 시 호출)
+     */
+    @Transactional
+    public void deleteComments(Collection<Long> articleIds) {
+        commentRepository.deleteByArticleIdIn(articleIds);
+    }
+
+    // 경로 순(부모가 항상 자식보다 먼저)으로 정렬된 댓글을 한 번 순회하며 트리로 조립
+    private static List<CommentResponse> toTree(List<Comment> comments) {
+        List<CommentResponse> roots = new ArrayList<>();
+        Map<Long, CommentResponse> byId = new HashMap<>(comments.size() * 2);
+        for (Comment comment : comments) {
+            CommentResponse response = new CommentResponse(comment);
+            byId.put(response.getId(), response);
+            CommentResponse parent = comment.getParentId() == null ? null : byId.get(comment.getParentId());
+            if (parent != null) {
+                parent.getReplies().add(response);
+            } else {
+                roots.add(response);
+            }
+        }
+        return roots;
+    }
+}
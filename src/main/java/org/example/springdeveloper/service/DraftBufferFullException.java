@@ -0,0 +1,16 @@
+package org.example.springdeveloper.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 메모리에 보관 중인 임시 저장본이 상한에 도달하여 앞당긴 기록으로도 자리를 만들지 못했을 때 발생하는 예외입니다.
+ * 503 Service Unavailable로 응답하며, 편집기는 다음 자동 저장 때 다시 시도합니다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DraftBufferFullException extends RuntimeException {
+
+    public DraftBufferFullException(int maxPending) {
+        super("too many pending drafts: " + maxPending);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.springdeveloper.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 게시하려는 게시글에 사용자의 임시 저장본이 없을 때 발생하는 예외입니다. (404 Not Found로 응답)
+ * 존재하지 않는 저장본으로 반복되는 요청이 많으므로 스택 트레이스를 만들지 않습니다.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class DraftNotFoundException extends IllegalArgumentException {
+
+    public DraftNotFoundException(long articleId) {
+        super("draft not found: " + articleId);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.springdeveloper.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 게시글에 요청한 번호의 리비전이 없을 때 발생하는 예외입니다. (404 Not Found로 응답)
+ * 존재하지 않는 번호로 반복되는 요청이 많으므로 스택 트레이스를 만들지 않습니다.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class RevisionNotFoundException extends IllegalArgumentException {
+
+    public RevisionNotFoundException(long articleId, int revisionNumber) {
+        super("revision not found: " + articleId + "/" + revisionNumber);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
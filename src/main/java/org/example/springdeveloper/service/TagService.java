@@ -0,0 +1,94 @@
+package org.example.springdeveloper.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.example.springdeveloper.config.invalidation.InvalidationBus;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.domain.Tag;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.example.springdeveloper.repository.TagRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@RequiredArgsConstructor
+@Service
+public class TagService {
+
+    private final TagRepository tagRepository;
+    private final BlogRepository blogRepository;
+    private final InvalidationBus invalidationBus;
+
+    /**
+     * 게시글의 태그를 주어진 목록으로 교체합니다.
+     * 없는 태그는 만들고, 추가·제거된 태그의 게시글 수는 갱신 쿼리 한 번씩으로 증감합니다.
+     *
+     * @param articleId 게시글 id
+     * @param names 새 태그 이름 목록 (앞뒤 공백을 지우고 소문자로 정규화)
+     * @return 태그가 바뀐 Article 엔티티
+     * @throws ArticleNotFoundException 게시글이 존재하지 않을 경우
+     */
+    @Transactional
+    public Article replaceTags(long articleId, Collection<String> names) {
+        Article article = blogRepository.findWithTagsById(articleId)
+                .orElseThrow(() -> new ArticleNotFoundException(articleId));
+
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String name : names) {
+            normalized.add(name.trim().toLowerCase(Locale.ROOT));
+        }
+        Map<String, Tag> tags = new LinkedHashMap<>();
+        tagRepository.findByNameIn(normalized).forEach(tag -> tags.put(tag.getName(), tag));
+        List<Tag> created = normalized.stream()
+                .filter(name -> !tags.containsKey(name))
+                .map(Tag::new)
+                .toList();
+        tagRepository.saveAllAndFlush(created).forEach(tag -> tags.put(tag.getName(), tag));
+
+        Set<Long> previous = new HashSet<>();
+        article.getTags().forEach(tag -> previous.add(tag.getId()));
+        List<Tag> next = normalized.stream().map(tags::get).toList();
+
+        List<Long> added = next.stream().map(Tag::getId).filter(id -> !previous.remove(id)).toList();
+        if (!added.isEmpty()) {
+            tagRepository.addArticleCount(added, 1);
+        }
+        if (!previous.isEmpty()) { // 남은 것은 빠진 태그
+            tagRepository.addArticleCount(previous, -1);
+        }
+        article.replaceTags(next);
+        invalidationBus.publish(ArticleCache.ENTITY_TYPE, articleId);
+        return article;
+    }
+
+    /**
+     * 게시글이 삭제될 때 붙어 있던 태그의 게시글 수를 줄입니다. (연결 행은 게시글과 함께 삭제됨)
+     */
+    @Transactional
+    public void releaseTags(long articleId) {
+        List<Long> tagIds = blogRepository.findTagIds(articleId);
+        if (!tagIds.isEmpty()) {
+            tagRepository.addArticleCount(tagIds, -1);
+        }
+    }
+
+    /**
+     * 게시글이 많이 붙은 순서로 모든 태그를 조회합니다.
+     */
+    public List<Tag> findTags() {
+        return tagRepository.findAllByOrderByArticleCountDescNameAsc();
+    }
+
+    /**
+     * 태그가 붙은 게시글을 id 순으로 afterId 다음부터 최대 size개 조회합니다.
+     * 조회한 게시글들의 태그는 한 번의 추가 쿼리로 함께 읽습니다.
+     */
+    public List<Article> findArticlesByTag(String tag, long afterId, int size) {
+        List<Article> articles = blogRepository.findByTagAfter(tag.trim().toLowerCase(Locale.ROOT), afterId,
+                PageRequest.of(0, size));
+        // 첫 컬렉션을 초기화할 때 @BatchSize만큼의 게시글 태그가 한 쿼리로 함께 읽힘
+        articles.forEach(article -> article.getTags().size());
+        return articles;
+    }
+}
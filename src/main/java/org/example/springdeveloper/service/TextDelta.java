@@ -0,0 +1,235 @@
+package org.example.springdeveloper.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 두 문자열의 차이를 줄 단위로 계산하여 작은 문자열(delta)로 인코딩하고, 다시 적용하는 유틸리티입니다.
+ *
+ * 인코딩 형식은 이전 문자열을 앞에서부터 읽으며 적용하는 연산의 나열입니다.
+ * <ul>
+ *     <li>{@code =n;} 이전 문자열의 n글자를 그대로 복사</li>
+ *     <li>{@code -n;} 이전 문자열의 n글자를 건너뜀(삭제)</li>
+ *     <li>{@code +n:text} n글자의 text를 삽입</li>
+ * </ul>
+ * 변경되지 않은 부분은 숫자 하나로 표현되므로 delta의 크기는 실제로 바뀐 내용에 비례합니다.
+ */
+public final class TextDelta {
+
+    // 변경이 매우 많은 경우 Myers 탐색을 중단하고 가운데 구간을 통째로 교체하는 기준 (편집 거리)
+    private static final int MAX_EDIT_DISTANCE = 1_000;
+
+    private TextDelta() {
+    }
+
+    /**
+     * source를 target으로 바꾸는 delta를 계산합니다.
+     */
+    public static String diff(String source, String target) {
+        List<String> a = splitLines(source);
+        List<String> b = splitLines(target);
+
+        // 공통 접두사/접미사는 탐색 없이 복사 연산으로 처리
+        int prefix = 0;
+        while (prefix < a.size() && prefix < b.size() && a.get(prefix).equals(b.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.size() - prefix && suffix < b.size() - prefix
+                && a.get(a.size() - 1 - suffix).equals(b.get(b.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        DeltaWriter writer = new DeltaWriter();
+        writer.copy(length(a, 0, prefix));
+        diffMiddle(a.subList(prefix, a.size() - suffix), b.subList(prefix, b.size() - suffix), writer);
+        writer.copy(length(a, a.size() - suffix, a.size()));
+        return writer.toString();
+    }
+
+    /**
+     * source에 delta를 적용한 결과를 반환합니다.
+     * @throws IllegalArgumentException delta 형식이 잘못되었거나 source와 맞지 않을 경우
+     */
+    public static String apply(String source, String delta) {
+        StringBuilder result = new StringBuilder(source.length() + delta.length());
+        int sourcePos = 0;
+        int pos = 0;
+        while (pos < delta.length()) {
+            char op = delta.charAt(pos++);
+            int end = pos;
+            while (end < delta.length() && Character.isDigit(delta.charAt(end))) {
+                end++;
+            }
+            if (end == pos || end == delta.length()) {
+                throw new IllegalArgumentException("malformed delta at " + pos);
+            }
+            int count = Integer.parseInt(delta, pos, end, 10);
+            pos = end + 1; // ';' 또는 ':' 건너뜀
+            switch (op) {
+                case '=' -> {
+                    result.append(source, sourcePos, sourcePos + count);
+                    sourcePos += count;
+                }
+                case '-' -> sourcePos += count;
+                case '+' -> {
+                    result.append(delta, pos, pos + count);
+                    pos += count;
+                }
+                default -> throw new IllegalArgumentException("unknown delta op '" + op + "' at " + (pos - 1));
+            }
+        }
+        if (sourcePos != source.length()) {
+            throw new IllegalArgumentException("delta does not match source length " + source.length());
+        }
+        return result.toString();
+    }
+
+    // Myers O(ND) 알고리즘으로 최소 편집 스크립트를 구해 연산으로 기록
+    private static void diffMiddle(List<String> a, List<String> b, DeltaWriter writer) {
+        int n = a.size();
+        int m = b.size();
+        int max = Math.min(n + m, MAX_EDIT_DISTANCE);
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>(); // 단계 d마다 시작 시점의 v[-d-1..d+1] 사본 (메모리 O(D^2))
+
+        int found = -1;
+        for (int d = 0; d <= max && found < 0; d++) {
+            trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    found = d;
+                    break;
+                }
+            }
+        }
+
+        if (found < 0) { // 편집 거리가 너무 크면 가운데 구간 전체를 교체
+            writer.delete(length(a, 0, n));
+            writer.insert(String.join("", b));
+            return;
+        }
+
+        // 역추적하여 뒤에서부터 연산을 모은 뒤 순서를 뒤집어 기록
+        List<int[]> edits = new ArrayList<>(); // {종류(0=복사,1=삭제,2=삽입), 줄 번호}
+        int x = n;
+        int y = m;
+        for (int d = found; d >= 0; d--) {
+            int[] prev = trace.get(d);
+            int base = d + 1; // prev 배열에서 k = 0의 위치
+            int k = x - y;
+            int prevK = (k == -d || (k != d && prev[base + k - 1] < prev[base + k + 1])) ? k + 1 : k - 1;
+            int prevX = d == 0 ? 0 : prev[base + prevK];
+            int prevY = d == 0 ? 0 : prevX - prevK;
+            while (x > prevX && y > prevY) {
+                edits.add(new int[]{0, --x});
+                y--;
+            }
+            if (d > 0) {
+                if (x == prevX) {
+                    edits.add(new int[]{2, prevY});
+                } else {
+                    edits.add(new int[]{1, prevX});
+                }
+            }
+            x = prevX;
+            y = prevY;
+        }
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            int[] edit = edits.get(i);
+            switch (edit[0]) {
+                case 0 -> writer.copy(a.get(edit[1]).length());
+                case 1 -> writer.delete(a.get(edit[1]).length());
+                default -> writer.insert(b.get(edit[1]));
+            }
+        }
+    }
+
+    // 줄바꿈 문자를 포함한 채로 줄 단위로 나눔 (다시 이어 붙이면 원문과 같음)
+    private static List<String> splitLines(String text) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines;
+    }
+
+    private static int length(List<String> lines, int from, int to) {
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            length += lines.get(i).length();
+        }
+        return length;
+    }
+
+    // 같은 종류의 연속된 연산을 하나로 합쳐 기록
+    private static final class DeltaWriter {
+        private final StringBuilder out = new StringBuilder();
+        private char pendingOp;
+        private int pendingCount;
+        private final StringBuilder pendingText = new StringBuilder();
+
+        void copy(int count) {
+            append('=', count, null);
+        }
+
+        void delete(int count) {
+            append('-', count, null);
+        }
+
+        void insert(String text) {
+            append('+', text.length(), text);
+        }
+
+        private void append(char op, int count, String text) {
+            if (count == 0) {
+                return;
+            }
+            if (op != pendingOp) {
+                flush();
+                pendingOp = op;
+            }
+            pendingCount += count;
+            if (text != null) {
+                pendingText.append(text);
+            }
+        }
+
+        private void flush() {
+            if (pendingCount > 0) {
+                out.append(pendingOp).append(pendingCount);
+                if (pendingOp == '+') {
+                    out.append(':').append(pendingText);
+                } else {
+                    out.append(';');
+                }
+            }
+            pendingCount = 0;
+            pendingText.setLength(0);
+        }
+
+        @Override
+        public String toString() {
+            flush();
+            return out.toString();
+        }
+    }
+}
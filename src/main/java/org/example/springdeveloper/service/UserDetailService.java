@@ -1,15 +1,19 @@
 package org.example.springdeveloper.service;
 
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.springdeveloper.domain.User;
 import org.example.springdeveloper.repository.UserRepository;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor // final 필드를 포함한 생성자를 자동으로 생성해 줌
 @Service // Spring의 서비스 계층으로 등록 (비즈니스 로직을 담당)
-public class UserDetailService implements UserDetailsService {
+public class UserDetailService implements UserDetailsService, UserDetailsPasswordService {
     // ✅ Spring Security에서 사용자 정보를 가져오는 인터페이스(UserDetailsService)를 구현
+    // ✅ UserDetailsPasswordService를 함께 구현하면 로그인 성공 시 오래된(낮은 cost) 해시를 자동으로 교체할 수 있음
 
     private final UserRepository userRepository;
     // ✅ UserRepository를 주입받아 사용자 정보를 데이터베이스에서 조회할 수 있도록 설정
@@ -27,5 +31,18 @@ public class UserDetailService implements UserDetailsService {
                 // ✅ 만약 해당 이메일이 존재하지 않으면 예외 발생
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없음: " + email));
     }
-}
 
+    /**
+     * 📌 로그인 성공 후 현재 설정의 cost로 다시 해싱한 비밀번호를 저장하는 메서드
+     * @param user 로그인한 사용자
+     * @param newPassword 새로 해싱된 비밀번호
+     * @return 비밀번호가 갱신된 사용자
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = loadUserByUsername(user.getUsername());
+        entity.updatePassword(newPassword); // ✅ 변경 감지로 트랜잭션 커밋 시 반영
+        return entity;
+    }
+}
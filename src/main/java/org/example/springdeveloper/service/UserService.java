@@ -1,29 +1,54 @@
 package org.example.springdeveloper.service;
 
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.springdeveloper.domain.User;
 import org.example.springdeveloper.dto.AddUserRequest;
 import org.example.springdeveloper.repository.UserRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @RequiredArgsConstructor // ✅ final 필드를 포함한 생성자를 자동 생성 (의존성 주입을 쉽게 처리)
 @Service // ✅ Spring의 서비스 계층으로 등록 (비즈니스 로직을 수행하는 클래스)
 public class UserService {
 
     private final UserRepository userRepository; // ✅ 데이터베이스에서 사용자 정보를 저장하고 조회하는 저장소
-    private final BCryptPasswordEncoder bCryptPasswordEncoder; // ✅ 비밀번호를 안전하게 암호화하는 객체
+    private final PasswordEncoder passwordEncoder; // ✅ 비밀번호를 안전하게 암호화하는 객체 (전용 스레드 풀에서 BCrypt 해싱)
+
+    @Value("${blog.admin.emails:}")
+    private List<String> adminEmails; // ✅ 관리자 권한(ROLE_ADMIN)을 줄 이메일 목록
 
     /**
      * 📌 사용자를 저장하는 메서드 (회원가입)
      * @param dto 사용자 등록 요청 객체 (이메일 & 패스워드 포함)
      * @return 저장된 사용자의 ID 반환
+     * @throws org.example.springdeveloper.config.PasswordHashingRejectedException 해싱 요청이 몰려 처리할 수 없을 경우 (503)
      */
     public Long save(AddUserRequest dto) {
-        return userRepository.save(User.builder()
-                        .email(dto.getEmail()) // ✅ 요청된 이메일 저장
-                        .password(bCryptPasswordEncoder.encode(dto.getPassword())) // ✅ 비밀번호를 암호화하여 저장
-                        .build())
+        User user = User.builder()
+                .email(dto.getEmail()) // ✅ 요청된 이메일 저장
+                .password(passwordEncoder.encode(dto.getPassword())) // ✅ 비밀번호를 암호화하여 저장
+                .build();
+        if (adminEmails.contains(dto.getEmail())) {
+            user.grantAdmin(); // ✅ 관리자로 등록된 이메일이면 가입과 함께 관리자 권한 부여
+        }
+        return userRepository.save(user)
                 .getId(); // ✅ 저장된 사용자 엔티티의 ID 반환
     }
+
+    /**
+     * 📌 시작 시 관리자로 등록된 이메일의 기존 사용자에게 관리자 권한을 부여하는 메서드
+     * 목록에서 빠진 사용자의 권한은 회수하지 않음 (회수는 DB에서 직접 처리)
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void grantAdminRoles() {
+        adminEmails.forEach(email -> userRepository.findByEmail(email)
+                .ifPresent(User::grantAdmin)); // ✅ 변경 감지로 트랜잭션 커밋 시 반영
+    }
 }
@@ -32,6 +32,7 @@ if (modifyButton) {
                 content: document.getElementById('content').value
             })
         })
+            .then(() => fetch(`/api/articles/${id}/draft`, { method: 'DELETE' })) // 직접 수정했으므로 임시 저장본 삭제
             .then(() => {
                 alert('수정이 완료되었습니다.');
                 location.replace(`/articles/${id}`);
@@ -59,4 +60,78 @@ if (createButton) {
                 location.replace('/articles');
             });
     });
-}
\ No newline at end of file
+}
+// 자동 저장 기능 (수정 화면에서만 동작, 내용이 바뀐 경우에만 몇 초마다 임시 저장)
+const AUTOSAVE_INTERVAL_MS = 3000;
+
+if (modifyButton) {
+    let id = new URLSearchParams(location.search).get('id');
+    let titleInput = document.getElementById('title');
+    let contentInput = document.getElementById('content');
+    let dirty = false;
+
+    // 저장되지 않은 임시 저장본이 있으면 불러올지 확인
+    fetch(`/api/articles/${id}/draft`)
+        .then(response => response.ok ? response.json() : null)
+        .then(draft => {
+            if (draft && (draft.title !== titleInput.value || draft.content !== contentInput.value)
+                && confirm('임시 저장된 내용이 있습니다. 불러올까요?')) {
+                titleInput.value = draft.title;
+                contentInput.value = draft.content;
+            }
+        });
+
+    titleInput.addEventListener('input', () => dirty = true);
+    contentInput.addEventListener('input', () => dirty = true);
+
+    setInterval(() => {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        fetch(`/api/articles/${id}/draft`, {
+            method: 'PUT',
+            headers: {
+                "Content-Type": "application/json",
+            },
+            body: JSON.stringify({
+                title: titleInput.value,
+                content: contentInput.value
+            })
+        });
+    }, AUTOSAVE_INTERVAL_MS);
+}
+
+// 댓글 등록 기능 (parentId가 있으면 답글)
+function addComment(parentId, content) {
+    let id = document.getElementById('article-id').value;
+    return fetch(`/api/articles/${id}/comments`, {
+        method: 'POST',
+        headers: {
+            "Content-Type": "application/json",
+        },
+        body: JSON.stringify({
+            parentId: parentId,
+            content: content
+        })
+    })
+        .then(() => location.reload());
+}
+
+const commentButton = document.getElementById('comment-btn');
+
+if (commentButton) {
+    commentButton.addEventListener('click', event => {
+        addComment(null, document.getElementById('comment-content').value);
+    });
+}
+
+// 답글 기능
+document.querySelectorAll('.reply-btn').forEach(button => {
+    button.addEventListener('click', event => {
+        let content = prompt('답글을 입력하세요');
+        if (content) {
+            addComment(button.dataset.commentId, content);
+        }
+    });
+});
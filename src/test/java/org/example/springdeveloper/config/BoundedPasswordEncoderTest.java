@@ -0,0 +1,186 @@
+package org.example.springdeveloper.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    @DisplayName("encode: 해싱 스레드와 대기 큐가 모두 차면 기다리지 않고 503 예외로 거절한다.")
+    @Test
+    public void rejectsWhenSaturated() throws Exception {
+        // given * 해싱 스레드 하나와 대기 큐 한 칸을 멈춰 있는 해싱으로 채웁니다.
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                blockingEncoder(started, release), 1, 1, Duration.ofSeconds(5));
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Thread caller = new Thread(() -> encoder.encode("password"));
+            caller.start();
+            callers.add(caller);
+            if (i == 0) {
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!upgradeDeferred(encoder) && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        // when & then * 회원가입은 503, 로그인 검증은 인증 실패로, 재해싱은 미룹니다.
+        assertThat(upgradeDeferred(encoder)).isTrue();
+        assertThatThrownBy(() -> encoder.encode("password"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThatThrownBy(() -> encoder.matches("password", "hash"))
+                .isInstanceOf(InternalAuthenticationServiceException.class);
+        assertThat(AnnotationUtils.findAnnotation(PasswordHashingRejectedException.class, ResponseStatus.class).value())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+        release.countDown();
+        for (Thread caller : callers) {
+            caller.join();
+        }
+        encoder.destroy();
+    }
+
+    @DisplayName("calibrateStrength: 측정한 cost는 최소·최대 범위 안으로 제한된다.")
+    @Test
+    public void calibrateStrength() {
+        // when
+        int fastest = BoundedPasswordEncoder.calibrateStrength(Duration.ofNanos(1), 5, 12);
+        int slowest = BoundedPasswordEncoder.calibrateStrength(Duration.ofHours(1), 5, 12);
+        int target = BoundedPasswordEncoder.calibrateStrength(Duration.ofMillis(50), 4, 31);
+
+        // then
+        assertThat(fastest).isEqualTo(5);
+        assertThat(slowest).isEqualTo(12);
+        assertThat(target).isBetween(4, 31);
+    }
+
+    @DisplayName("authenticate: 로그인 성공 시 낮은 cost의 해시는 현재 cost로 다시 해싱하여 저장한다.")
+    @Test
+    public void upgradesEncoding() {
+        // given * cost 4로 저장된 비밀번호와 cost 5로 해싱하는 인코더를 준비합니다.
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(5), 1, 4, Duration.ofSeconds(5));
+        UserDetails user = user(new BCryptPasswordEncoder(4).encode("password"));
+        List<String> updated = new ArrayList<>();
+        UpgradeSkippingAuthenticationProvider provider = provider(user, encoder, updated);
+
+        // when
+        Authentication result = provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("user@example.com", "password"));
+
+        // then
+        assertThat(result.isAuthenticated()).isTrue();
+        assertThat(updated).hasSize(1);
+        assertThat(updated.get(0)).startsWith("$2a$05$");
+        assertThat(encoder.matches("password", updated.get(0))).isTrue();
+
+        encoder.destroy();
+    }
+
+    @DisplayName("authenticate: 재해싱이 거절되어도 로그인은 성공하고 해시는 바꾸지 않는다.")
+    @Test
+    public void skipsUpgradeWhenRejected() {
+        // given * 검증과 재해싱 확인은 통과하지만, 그 사이 큐가 가득 차 encode가 거절되는 인코더를 준비합니다.
+        PasswordEncoder encoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if (!"password".contentEquals(rawPassword)) {
+                    return "timing-protection-hash"; // 없는 사용자 대비용 해시는 통과
+                }
+                throw new PasswordHashingRejectedException("password hashing queue is full", null);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return true;
+            }
+        };
+        List<String> updated = new ArrayList<>();
+        UpgradeSkippingAuthenticationProvider provider = provider(user("old-hash"), encoder, updated);
+
+        // when
+        Authentication result = provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("user@example.com", "password"));
+
+        // then
+        assertThat(result.isAuthenticated()).isTrue();
+        assertThat(result.getName()).isEqualTo("user@example.com");
+        assertThat(updated).isEmpty();
+    }
+
+    private static boolean upgradeDeferred(BoundedPasswordEncoder encoder) {
+        return !encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"));
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(5);
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return bcrypt.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return bcrypt.matches(rawPassword, encodedPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return bcrypt.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    private static UserDetails user(String password) {
+        return User.withUsername("user@example.com")
+                .password(password)
+                .authorities("user")
+                .build();
+    }
+
+    private static UpgradeSkippingAuthenticationProvider provider(UserDetails user, PasswordEncoder encoder,
+                                                                  List<String> updated) {
+        UpgradeSkippingAuthenticationProvider provider = new UpgradeSkippingAuthenticationProvider();
+        provider.setUserDetailsService(username -> user);
+        provider.setPasswordEncoder(encoder);
+        provider.setUserDetailsPasswordService((details, newPassword) -> {
+            updated.add(newPassword);
+            return details;
+        });
+        return provider;
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.springdeveloper.config.invalidation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationBusTest {
+
+    @DisplayName("publish: 같은 항목을 여러 번 바꿔도 다른 노드에는 한 번만 전달된다.")
+    @Test
+    public void deduplicatedDelivery() {
+        // given * 같은 JVM 그룹에 연결된 두 노드를 만듭니다.
+        String group = UUID.randomUUID().toString();
+        RecordingListener listenerA = new RecordingListener();
+        RecordingListener listenerB = new RecordingListener();
+        InvalidationBus nodeA = node(new InJvmInvalidationTransport(group), listenerA);
+        InvalidationBus nodeB = node(new InJvmInvalidationTransport(group), listenerB);
+
+        // when * 노드 A에서 같은 게시글을 세 번, 다른 게시글을 한 번 변경하고 묶음을 보냅니다.
+        nodeA.publish("article", 1);
+        nodeA.publish("article", 1);
+        nodeA.publish("article", 1);
+        nodeA.publish("article", 2);
+        nodeA.flush();
+
+        // then * A는 바로 로컬 캐시를 비우고, B는 게시글마다 한 번씩만 받습니다.
+        assertThat(listenerA.invalidated).containsExactly(1L, 1L, 1L, 2L);
+        assertThat(listenerB.invalidated).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(nodeB.getReceived()).isEqualTo(2);
+
+        nodeA.destroy();
+        nodeB.destroy();
+    }
+
+    @DisplayName("receive: 순번이 건너뛴 묶음을 받으면 캐시 전체를 비운다.")
+    @Test
+    public void lostMessageResetsCaches() {
+        // given * 보낸 메시지를 직접 전달할 수 있는 전송 계층으로 노드 A를 만듭니다.
+        CapturingTransport transport = new CapturingTransport();
+        InvalidationBus nodeA = node(transport, new RecordingListener());
+        RecordingListener listenerB = new RecordingListener();
+        InvalidationBus nodeB = node(InvalidationTransport.none(), listenerB);
+
+        for (long id = 1; id <= 3; id++) {
+            nodeA.publish("article", id);
+            nodeA.flush();
+        }
+
+        // when * 두 번째 묶음을 잃어버린 채로 첫 번째와 세 번째 묶음만 전달합니다.
+        nodeB.receive(transport.sent.get(0));
+        nodeB.receive(transport.sent.get(2));
+
+        // then * 유실을 감지하여 캐시 전체를 비우고, 세 번째 묶음의 항목도 적용합니다.
+        assertThat(nodeB.getResets()).isEqualTo(1);
+        assertThat(listenerB.clearedAll).isEqualTo(1);
+        assertThat(listenerB.invalidated).containsExactly(1L, 3L);
+
+        // when * 같은 묶음이 다시 도착하면 무시합니다.
+        nodeB.receive(transport.sent.get(2).rewind());
+
+        // then
+        assertThat(listenerB.invalidated).containsExactly(1L, 3L);
+    }
+
+    private static InvalidationBus node(InvalidationTransport transport, InvalidationListener listener) {
+        InvalidationBus bus = new InvalidationBus(transport, List.of(listener), 512, 1_000);
+        bus.afterPropertiesSet();
+        return bus;
+    }
+
+    private static class RecordingListener implements InvalidationListener {
+        private final List<Long> invalidated = new ArrayList<>();
+        private int clearedAll;
+
+        @Override
+        public String entityType() {
+            return "article";
+        }
+
+        @Override
+        public synchronized void invalidate(long id, long version) {
+            invalidated.add(id);
+        }
+
+        @Override
+        public synchronized void invalidateAll() {
+            clearedAll++;
+        }
+    }
+
+    private static class CapturingTransport implements InvalidationTransport {
+        private final List<ByteBuffer> sent = new ArrayList<>();
+
+        @Override
+        public void start(Consumer<ByteBuffer> receiver) {
+        }
+
+        @Override
+        public void send(ByteBuffer message) {
+            sent.add(message);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.springdeveloper.config.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final int WINDOW_SAMPLES = 10; // 한도를 다시 계산하는 최소 표본 수와 같게 맞춤
+
+    @DisplayName("tryAcquire: 한도만큼만 슬롯을 내주고, 넘는 요청은 기다리지 않고 거절한다.")
+    @Test
+    public void rejectsOverLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10);
+
+        // when & then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getRejected()).isEqualTo(1);
+
+        limiter.release(1_000_000);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @DisplayName("release: 응답 시간이 기준선보다 크게 늘어나면 한도를 줄인다.")
+    @Test
+    public void decreasesLimitWhenLatencyGrows() throws Exception {
+        // given * 1ms 응답으로 기준선을 잡습니다.
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 20, 2, 100);
+        runWindow(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(limiter.getLimit()).isEqualTo(20);
+
+        // when * 다음 구간의 응답 시간이 10배로 늘어납니다.
+        runWindow(limiter, TimeUnit.MILLISECONDS.toNanos(10));
+
+        // then * 기울기 하한(0.5)과 평활화를 거쳐 20 -> 18.9로 줄어듭니다.
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    @DisplayName("release: 한도를 충분히 쓰면서 응답 시간이 기준선 수준이면 한도를 늘린다.")
+    @Test
+    public void increasesLimitAtBaselineLatency() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 16, 2, 100);
+        runWindow(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+
+        // when * 한도의 절반 이상을 쓰는 구간이 같은 응답 시간으로 이어집니다.
+        runWindow(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+        runWindow(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+
+        // then * 구간마다 sqrt(limit)의 일부씩 늘어 16 -> 16.8 -> 17.6이 됩니다.
+        assertThat(limiter.getLimit()).isEqualTo(17);
+    }
+
+    @DisplayName("release: 한도의 절반도 쓰지 않으면 응답 시간이 좋아도 한도를 늘리지 않는다.")
+    @Test
+    public void keepsLimitWhenUnderused() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 40, 2, 100);
+        runWindow(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+
+        // when * 동시 처리 수가 10으로 한도(40)의 절반에 못 미칩니다.
+        runWindow(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+        runWindow(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    @DisplayName("release: 줄어든 한도는 최소값 아래로 내려가지 않는다.")
+    @Test
+    public void clampsToMinLimit() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 20, 19, 100);
+        runWindow(limiter, TimeUnit.MILLISECONDS.toNanos(1));
+
+        // when
+        runWindow(limiter, TimeUnit.MILLISECONDS.toNanos(100));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(19);
+    }
+
+    // 슬롯 10개를 동시에 잡은 뒤, 계산 간격(100ms)이 지나면 같은 응답 시간으로 모두 반납하여 한 구간을 채움
+    private static void runWindow(AdaptiveConcurrencyLimiter limiter, long rttNanos) throws InterruptedException {
+        for (int i = 0; i < WINDOW_SAMPLES; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        Thread.sleep(110);
+        for (int i = 0; i < WINDOW_SAMPLES; i++) {
+            limiter.release(rttNanos);
+        }
+    }
+}
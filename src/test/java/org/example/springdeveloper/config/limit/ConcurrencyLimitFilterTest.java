@@ -0,0 +1,131 @@
+package org.example.springdeveloper.config.limit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitFilter filter;
+    private AdaptiveConcurrencyLimiter readLimiter;
+    private AdaptiveConcurrencyLimiter writeLimiter;
+    private AdaptiveConcurrencyLimiter authLimiter;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void mockMvcSetup() {
+        // 종류마다 한도를 1로 고정하여, 슬롯 하나를 미리 잡으면 그 종류의 요청이 거절되게 함
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setRead(new ConcurrencyLimitProperties.Limit(1, 1, 1));
+        properties.setWrite(new ConcurrencyLimitProperties.Limit(1, 1, 1));
+        properties.setAuth(new ConcurrencyLimitProperties.Limit(1, 1, 1));
+        this.filter = new ConcurrencyLimitFilter(properties);
+        this.readLimiter = filter.limiters().get(0);
+        this.writeLimiter = filter.limiters().get(1);
+        this.authLimiter = filter.limiters().get(2);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new StubController())
+                .addFilters(filter)
+                .build();
+    }
+
+    @DisplayName("doFilter: 조회 한도가 차면 조회 요청만 503과 Retry-After로 거절한다.")
+    @Test
+    public void rejectsReadsWhenReadLimitIsFull() throws Exception {
+        // given
+        assertThat(readLimiter.tryAcquire()).isTrue();
+
+        // when & then * 쓰기와 인증 요청은 각자의 한도로 처리됩니다.
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+        mockMvc.perform(post("/api/articles"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/articles"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/login"))
+                .andExpect(status().isOk());
+        assertThat(readLimiter.getRejected()).isEqualTo(1);
+    }
+
+    @DisplayName("doFilter: 쓰기 한도가 차면 POST, DELETE 요청을 거절하고 조회는 처리한다.")
+    @Test
+    public void rejectsWritesWhenWriteLimitIsFull() throws Exception {
+        // given
+        assertThat(writeLimiter.tryAcquire()).isTrue();
+
+        // when & then
+        mockMvc.perform(post("/api/articles"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+        mockMvc.perform(delete("/api/articles"))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isOk());
+        assertThat(writeLimiter.getRejected()).isEqualTo(2);
+    }
+
+    @DisplayName("doFilter: 로그인·회원가입 경로는 메서드와 관계없이 인증 한도로 분류한다.")
+    @Test
+    public void classifiesAuthPaths() throws Exception {
+        // given
+        assertThat(authLimiter.tryAcquire()).isTrue();
+
+        // when & then
+        mockMvc.perform(post("/login"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+        mockMvc.perform(get("/signup"))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(post("/api/articles"))
+                .andExpect(status().isOk());
+        assertThat(authLimiter.getRejected()).isEqualTo(2);
+    }
+
+    @DisplayName("doFilter: 정적 리소스와 상태 확인 프로브는 한도와 관계없이 처리한다.")
+    @Test
+    public void skipsExcludedPaths() throws Exception {
+        // given
+        assertThat(readLimiter.tryAcquire()).isTrue();
+
+        // when & then
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/js/article.js"))
+                .andExpect(status().isOk());
+        assertThat(readLimiter.getRejected()).isZero();
+    }
+
+    @DisplayName("doFilter: 처리가 끝난 요청은 슬롯을 반납한다.")
+    @Test
+    public void releasesSlotAfterRequest() throws Exception {
+        // when
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(readLimiter.getInFlight()).isZero();
+        assertThat(readLimiter.getRejected()).isZero();
+    }
+
+    @RestController
+    static class StubController {
+
+        @RequestMapping({"/api/articles", "/login", "/signup", "/actuator/health/readiness", "/js/article.js"})
+        public String handle() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.springdeveloper.config.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementLogTest {
+
+    @DisplayName("normalize: 리터럴과 IN 목록, 공백을 정규화하여 같은 모양의 쿼리를 하나로 묶는다.")
+    @Test
+    public void normalize() {
+        // when
+        String literals = SqlStatementLog.normalize("select *\n  from article where id = 5 and title = 'it''s'");
+        String inList = SqlStatementLog.normalize("select * from article where id in (1, 2, 3)");
+        String bindInList = SqlStatementLog.normalize("select * from article where id in (?,?)");
+
+        // then
+        assertThat(literals).isEqualTo("select * from article where id = ? and title = ?");
+        assertThat(inList).isEqualTo("select * from article where id in (?...)");
+        assertThat(bindInList).isEqualTo(inList);
+    }
+
+    @DisplayName("record: 정규화된 쿼리별로 실행 횟수, 실패 수, 최대 시간을 집계하고 종류 수를 제한한다.")
+    @Test
+    public void aggregatesStats() throws Exception {
+        // given * 로그는 남기지 않고 집계만 하며, 쿼리 종류는 두 개까지만 보관합니다.
+        SqlStatementLog statementLog = new SqlStatementLog(Long.MAX_VALUE, 0, false, 2, 10);
+
+        // when
+        statementLog.record("select * from article where id = 1", 1_000_000, null, false);
+        statementLog.record("select * from article where id = 2", 3_000_000, null, true);
+        statementLog.record("select * from comment", 2_000_000, null, false);
+        statementLog.record("select * from tag", 5_000_000, null, false);
+
+        // then * 총 소요 시간이 큰 순서이며, 세 번째 종류는 (other)로 묶입니다.
+        List<SqlQueryStats> stats = statementLog.queryStats();
+        assertThat(stats).extracting(SqlQueryStats::query)
+                .containsExactly("(other)", "select * from article where id = ?", "select * from comment");
+        SqlQueryStats article = stats.get(1);
+        assertThat(article.count()).isEqualTo(2);
+        assertThat(article.errors()).isEqualTo(1);
+        assertThat(article.totalMillis()).isEqualTo(4.0);
+        assertThat(article.averageMillis()).isEqualTo(2.0);
+        assertThat(article.maxMillis()).isEqualTo(3.0);
+
+        statementLog.destroy();
+    }
+
+    @DisplayName("record: 로그 큐가 가득 차면 요청 스레드를 막지 않고 로그를 버린다.")
+    @Test
+    public void dropsWhenQueueIsFull() throws Exception {
+        // given * 로그 스레드가 멈춰 있고 대기 큐에는 한 건만 들어갑니다.
+        CountDownLatch release = new CountDownLatch(1);
+        SqlStatementLog statementLog = new SqlStatementLog(0, 0, false, 100, 1,
+                runnable -> new Thread(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    runnable.run();
+                }, "sql-log-test"));
+
+        // when * 모든 문장이 느린 문장으로 기록되도록 다섯 번 실행합니다.
+        for (int i = 0; i < 5; i++) {
+            statementLog.record("select 1", 1_000, null, false);
+        }
+
+        // then * 스레드가 잡은 한 건과 큐의 한 건을 뺀 나머지는 버려지고, 집계는 모두 반영됩니다.
+        assertThat(statementLog.droppedCount()).isEqualTo(3);
+        assertThat(statementLog.queryStats().get(0).count()).isEqualTo(5);
+
+        release.countDown();
+        statementLog.destroy();
+    }
+
+    @DisplayName("formatParameters: 문자열은 앞 두 글자와 길이만, 바이너리와 기타 객체는 크기나 타입만 남긴다.")
+    @Test
+    public void masksParameters() {
+        // given
+        List<Object> parameters = Arrays.asList(42L, "user@example.com", null, true,
+                new byte[16], LocalDate.of(2025, 1, 1), "a", new Object());
+
+        // when
+        String formatted = SqlStatementLog.formatParameters(parameters);
+
+        // then
+        assertThat(formatted).isEqualTo(
+                "[42, 'us***'(16), null, true, byte[16], 2025-01-01, '***'(1), <Object>]");
+        assertThat(formatted).doesNotContain("example.com");
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.springdeveloper.config.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class SqlTimingDataSourceTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    SqlStatementLog sqlStatementLog;
+
+    @DisplayName("wrap: DataSource 빈은 프록시로 감싸지고, 바인드 파라미터는 기본적으로 기록하지 않는다.")
+    @Test
+    public void wrapsDataSource() {
+        // then * 풀이 닫힐 수 있도록 AutoCloseable도 그대로 구현합니다.
+        assertThat(Proxy.isProxyClass(dataSource.getClass())).isTrue();
+        assertThat(dataSource).isInstanceOf(AutoCloseable.class);
+        assertThat(sqlStatementLog.capturesParameters()).isFalse();
+    }
+
+    @DisplayName("execute: 프록시를 거친 문장은 정규화된 쿼리로 집계되고, 실패한 문장은 오류 수에 반영된다.")
+    @Test
+    public void recordsStatements() {
+        // when * PreparedStatement와 Statement로 각각 실행하고, 없는 테이블을 조회합니다.
+        jdbcTemplate.queryForObject("select count(*) from article where id > ?", Long.class, 0);
+        jdbcTemplate.queryForObject("select count(*) from article where id > 100", Long.class);
+        assertThatThrownBy(() -> jdbcTemplate.execute("select * from sql_timing_missing_table"))
+                .isInstanceOf(BadSqlGrammarException.class);
+
+        // then
+        assertThat(sqlStatementLog.queryStats())
+                .filteredOn(stats -> stats.query().equals("select count(*) from article where id > ?"))
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.count()).isEqualTo(2));
+        assertThat(sqlStatementLog.queryStats())
+                .filteredOn(stats -> stats.query().equals("select * from sql_timing_missing_table"))
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.errors()).isEqualTo(1));
+    }
+}
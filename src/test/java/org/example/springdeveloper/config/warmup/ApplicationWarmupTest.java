@@ -0,0 +1,65 @@
+package org.example.springdeveloper.config.warmup;
+
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.example.springdeveloper.repository.CommentRepository;
+import org.example.springdeveloper.repository.TagRepository;
+import org.example.springdeveloper.service.ArticleCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"blog.warmup.enabled=true", "blog.warmup.iterations=5"})
+class ApplicationWarmupTest {
+
+    @Autowired
+    ApplicationWarmup applicationWarmup;
+
+    @Autowired
+    ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ArticleCache articleCache;
+
+    @DisplayName("run: 워밍업은 모든 단계를 실행한 뒤 준비 완료가 되며, 실제 데이터를 남기거나 바꾸지 않는다.")
+    @Test
+    public void warmUpWithoutSideEffects() throws Exception {
+        // given * 시작 시 워밍업이 모든 회차를 끝냈고, 그 뒤에 준비 완료 상태가 되었습니다.
+        assertThat(applicationWarmup.report().iterations()).isEqualTo(5);
+        assertThat(applicationWarmup.report().phases()).hasSize(3);
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+
+        Article article = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        long articles = blogRepository.count();
+        long tags = tagRepository.count();
+        long comments = commentRepository.count();
+
+        // when * 워밍업을 다시 실행합니다.
+        applicationWarmup.run(null);
+
+        // then * 임시 데이터는 롤백되어 남지 않고, 실제 게시글은 그대로이며 캐시에도 올라가지 않습니다.
+        assertThat(applicationWarmup.report().iterations()).isEqualTo(5);
+        assertThat(blogRepository.count()).isEqualTo(articles);
+        assertThat(tagRepository.count()).isEqualTo(tags);
+        assertThat(commentRepository.count()).isEqualTo(comments);
+        assertThat(blogRepository.findById(article.getId()).orElseThrow().getTitle()).isEqualTo("title");
+        assertThat(articleCache.get(article.getId())).isNull();
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.springdeveloper.controller;
+
+import org.example.springdeveloper.domain.User;
+import org.example.springdeveloper.dto.AddUserRequest;
+import org.example.springdeveloper.repository.UserRepository;
+import org.example.springdeveloper.service.UserDetailService;
+import org.example.springdeveloper.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "blog.admin.emails=admin@example.com,new-admin@example.com")
+class AdminApiControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserDetailService userDetailService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void mockMvcSetup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity()) // 권한 검사를 위해 보안 필터 체인을 적용
+                .build();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("/admin/**: 관리자로 등록된 사용자는 200, 일반 사용자는 403으로 응답한다.")
+    @Test
+    public void adminOnly() throws Exception {
+        // given * 목록에 있는 기존 사용자에게는 시작 시 관리자 권한을 부여하고, 다른 사용자는 일반 사용자로 가입합니다.
+        userRepository.save(User.builder()
+                .email("admin@example.com")
+                .password("hash")
+                .build());
+        userService.grantAdminRoles();
+        userRepository.save(User.builder()
+                .email("user@example.com")
+                .password("hash")
+                .build());
+        User admin = userDetailService.loadUserByUsername("admin@example.com");
+        User plain = userDetailService.loadUserByUsername("user@example.com");
+
+        // when & then
+        mockMvc.perform(get("/admin/traces").with(user(admin)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/admin/sql-stats").with(user(admin)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/admin/traces").with(user(plain)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/admin/sql-stats").with(user(plain)))
+                .andExpect(status().isForbidden());
+    }
+
+    @DisplayName("save: 관리자로 등록된 이메일로 가입하면 관리자 권한을 갖는다.")
+    @Test
+    public void signUpAsAdmin() {
+        // given
+        AddUserRequest adminRequest = new AddUserRequest();
+        adminRequest.setEmail("new-admin@example.com");
+        adminRequest.setPassword("password");
+        AddUserRequest userRequest = new AddUserRequest();
+        userRequest.setEmail("new-user@example.com");
+        userRequest.setPassword("password");
+
+        // when
+        userService.save(adminRequest);
+        userService.save(userRequest);
+
+        // then
+        assertThat(userDetailService.loadUserByUsername("new-admin@example.com").getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("user", "ROLE_ADMIN");
+        assertThat(userDetailService.loadUserByUsername("new-user@example.com").getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("user");
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.springdeveloper.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "blog.attachment.max-size-bytes=1048576")
+class ArticleAttachmentApiControllerTest {
+
+    @TempDir
+    static Path attachmentDirectory;
+
+    @DynamicPropertySource
+    static void attachmentProperties(DynamicPropertyRegistry registry) {
+        registry.add("blog.attachment.directory", () -> attachmentDirectory.toString());
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void mockMvcSetup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .build();
+    }
+
+    @DisplayName("uploadAttachment: 올린 파일을 전체, 구간, 조건부 요청으로 내려받는다.")
+    @Test
+    public void uploadAndDownload() throws Exception {
+        // given * 게시글과 200KB짜리 파일을 준비합니다.
+        Article article = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        byte[] file = new byte[200 * 1024];
+        new Random(7).nextBytes(file);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(file));
+
+        // when * 요청 본문에 파일 내용을 담아 올립니다.
+        MvcResult upload = mockMvc.perform(post("/api/articles/{id}/attachments", article.getId())
+                        .param("name", "사진.png")
+                        .contentType(MediaType.IMAGE_PNG)
+                        .content(file))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size").value(file.length))
+                .andExpect(jsonPath("$.sha256").value(sha256))
+                .andReturn();
+        JsonNode uploaded = objectMapper.readTree(upload.getResponse().getContentAsString());
+        String url = "/api/articles/" + article.getId() + "/attachments/" + uploaded.get("id").asLong();
+
+        // then * 전체 내려받기: 내용과 캐시 헤더를 확인합니다.
+        MvcResult full = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + sha256 + "\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_PNG_VALUE))
+                .andReturn();
+        assertThat(full.getResponse().getContentAsByteArray()).isEqualTo(file);
+        assertThat(full.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("private", "immutable");
+
+        // then * 구간 내려받기: 206과 요청한 구간만 받습니다.
+        MvcResult partial = mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=1000-1999"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1000-1999/" + file.length))
+                .andReturn();
+        assertThat(partial.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(file, 1000, 2000));
+
+        // then * 범위를 벗어난 구간은 416, 같은 ETag로 다시 요청하면 304입니다.
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=" + file.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"" + sha256 + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @DisplayName("uploadAttachment: 허용 크기를 넘는 파일은 413으로 거절한다.")
+    @Test
+    public void uploadTooLarge() throws Exception {
+        // given * 게시글과 허용 크기(1MB)보다 큰 파일을 준비합니다.
+        Article article = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        byte[] file = new byte[1024 * 1024 + 1];
+
+        // when & then
+        mockMvc.perform(post("/api/articles/{id}/attachments", article.getId())
+                        .param("name", "big.bin")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(file))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @DisplayName("downloadAttachment: 없는 첨부 파일이나 다른 게시글의 첨부 파일은 404로 응답한다.")
+    @Test
+    public void downloadMissingAttachment() throws Exception {
+        // given * 첨부 파일이 하나 있는 게시글과 첨부 파일이 없는 게시글을 준비합니다.
+        Article article = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        Article other = blogRepository.save(Article.builder()
+                .title("other")
+                .content("content")
+                .build());
+        MvcResult upload = mockMvc.perform(post("/api/articles/{id}/attachments", article.getId())
+                        .param("name", "small.bin")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[16]))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long attachmentId = objectMapper.readTree(upload.getResponse().getContentAsString()).get("id").asLong();
+
+        // when & then
+        mockMvc.perform(get("/api/articles/{id}/attachments/{attachmentId}", article.getId(), attachmentId + 1000))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/articles/{id}/attachments/{attachmentId}", other.getId(), attachmentId))
+                .andExpect(status().isNotFound());
+    }
+}
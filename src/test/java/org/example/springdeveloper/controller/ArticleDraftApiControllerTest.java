@@ -0,0 +1,94 @@
+package org.example.springdeveloper.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.dto.UpdateArticleRequest;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "blog.draft.flush-interval-ms=3600000") // 테스트 중 주기적 기록이 끼어들지 않도록 함
+class ArticleDraftApiControllerTest {
+
+    private static final String AUTHOR = "writer@example.com";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    private MockMvc mockMvc;
+
+    private long articleId;
+
+    @BeforeEach
+    public void mockMvcSetup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .build();
+        articleId = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build()).getId();
+    }
+
+    @DisplayName("saveDraft: 임시 저장본을 받아 두고, 기록 전에도 조회할 수 있다.")
+    @Test
+    public void saveDraft() throws Exception {
+        // when
+        saveDraft(articleId, new UpdateArticleRequest("draft title", "draft content"))
+                .andExpect(status().isAccepted());
+
+        // then
+        mockMvc.perform(get("/api/articles/{id}/draft", articleId).principal(() -> AUTHOR))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("draft title"));
+    }
+
+    @DisplayName("saveDraft: 제목이 없거나 255자를 넘는 저장본은 나중에 버려지지 않도록 400으로 거절한다.")
+    @Test
+    public void rejectsInvalidDraft() throws Exception {
+        // when & then
+        saveDraft(articleId, new UpdateArticleRequest(null, "content"))
+                .andExpect(status().isBadRequest());
+        saveDraft(articleId, new UpdateArticleRequest(" ", "content"))
+                .andExpect(status().isBadRequest());
+        saveDraft(articleId, new UpdateArticleRequest("a".repeat(256), "content"))
+                .andExpect(status().isBadRequest());
+        saveDraft(articleId, new UpdateArticleRequest("title", null))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/articles/{id}/draft", articleId).principal(() -> AUTHOR))
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("saveDraft: 없는 게시글의 임시 저장본은 404로 거절한다.")
+    @Test
+    public void rejectsDraftOfMissingArticle() throws Exception {
+        // when & then
+        saveDraft(Long.MAX_VALUE, new UpdateArticleRequest("title", "content"))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions saveDraft(long id, UpdateArticleRequest request) throws Exception {
+        return mockMvc.perform(put("/api/articles/{id}/draft", id)
+                .principal(() -> AUTHOR)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+}
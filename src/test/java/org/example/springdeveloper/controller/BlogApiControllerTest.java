@@ -1,10 +1,16 @@
 package org.example.springdeveloper.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.springdeveloper.config.timing.RequestTimingFilter;
+import org.example.springdeveloper.config.timing.RequestTraceBuffer;
 import org.example.springdeveloper.domain.Article;
 import org.example.springdeveloper.dto.AddArticleRequest;
+import org.example.springdeveloper.dto.ArticleResponse;
 import org.example.springdeveloper.dto.UpdateArticleRequest;
 import org.example.springdeveloper.repository.BlogRepository;
+import org.example.springdeveloper.service.ArticlePurger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,16 +18,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,11 +53,18 @@ class BlogApiControllerTest {
     @Autowired
     BlogRepository blogRepository;
 
+    @Autowired
+    ArticlePurger articlePurger;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @BeforeEach // 테스트 실행 전 실행하는 메서드
     public void mockMvcSetup() {
         this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
                 .build();
         blogRepository.deleteAll();
+        articlePurger.purgeBefore(LocalDateTime.now().plusSeconds(1)); // 앞선 테스트에서 삭제 표시되어 deleteAll에서 빠진 글 정리
     }
 
     @DisplayName("addArticle: 블로그 글 추가에 성공한다.")
@@ -103,6 +120,60 @@ class BlogApiControllerTest {
 
     }
 
+    @DisplayName("findAllArticles: Accept 헤더가 CBOR이면 CBOR로 응답한다.")
+    @Test
+    public void findAllArticlesAsCbor() throws Exception {
+        //given * 블로그 글을 저장합니다.
+        final String url = "/api/articles";
+        final String title = "title";
+        final String content = "content";
+
+        blogRepository.save(Article.builder()
+                .title(title)
+                .content(content)
+                .build());
+
+        //when * Accept 헤더에 CBOR 형식을 지정하여 목록 조회 API를 호출합니다.
+        final MvcResult result = mockMvc.perform(get(url)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        //then * 응답 본문을 CBOR로 역직렬화하여 저장된 값과 같은지 확인합니다.
+        List<ArticleResponse> articles = new ObjectMapper(new CBORFactory())
+                .readValue(result.getResponse().getContentAsByteArray(), new TypeReference<>() {});
+
+        assertThat(articles).hasSize(1);
+        assertThat(articles.get(0).getTitle()).isEqualTo(title);
+        assertThat(articles.get(0).getContent()).isEqualTo(content);
+    }
+
+    @DisplayName("findAllArticles: 응답에 단계별 Server-Timing 헤더가 붙는다.")
+    @Test
+    public void findAllArticlesWithServerTiming() throws Exception {
+        //given * 시간 측정 필터를 포함한 MockMvc를 만들고 블로그 글을 저장합니다.
+        final String url = "/api/articles";
+        final MockMvc timedMockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(new RequestTimingFilter(new RequestTraceBuffer(16, 1.0, 0)))
+                .build();
+
+        blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+
+        //when * 목록 조회 API를 호출합니다.
+        final MvcResult result = timedMockMvc.perform(get(url)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //then * Server-Timing 헤더에 필터, 서비스, 컨트롤러, 전체 단계가 모두 있는지 확인합니다.
+        assertThat(result.getResponse().getHeader("Server-Timing"))
+                .contains("sec;dur=", "svc;dur=", "app;dur=", "total;dur=");
+    }
+
     @DisplayName("findArticle: 블로그 글 조회에 성공한다.")
     @Test
     public void findArticle() throws Exception {
@@ -126,6 +197,20 @@ class BlogApiControllerTest {
                 .andExpect(jsonPath("$.title").value(title));
     }
 
+    @DisplayName("findArticle: 존재하지 않는 블로그 글을 조회하면 404를 응답한다.")
+    @Test
+    public void findMissingArticle() throws Exception {
+        //given * 존재하지 않는 id를 준비합니다.
+        final String url = "/api/articles/{id}";
+        final long missingId = Long.MAX_VALUE;
+
+        //when * 단건 조회 API를 호출합니다.
+        final ResultActions resultActions = mockMvc.perform(get(url, missingId));
+
+        //then * 응답 코드가 404 Not Found인지 확인합니다.
+        resultActions.andExpect(status().isNotFound());
+    }
+
     @DisplayName("findArticle: 블로그 글 삭제에 성공한다.")
     @Test
     public void deleteArticle() throws Exception {
@@ -149,6 +234,74 @@ class BlogApiControllerTest {
         assertThat(articles).isEmpty();
     }
 
+    @DisplayName("deleteArticle: 삭제한 글은 바로 조회되지 않고, 보관 기간이 지나면 정리 작업에서 실제로 삭제된다.")
+    @Test
+    public void softDeleteAndPurgeArticle() throws Exception {
+        // given * 블로그 글을 저장하고 삭제합니다.
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        mockMvc.perform(delete("/api/articles/{id}", savedArticle.getId()))
+                .andExpect(status().isOk());
+
+        // then * 삭제 표시된 글은 조회되지 않고, 다시 삭제하면 404이지만 행은 남아 있습니다.
+        mockMvc.perform(get("/api/articles/{id}", savedArticle.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/articles/{id}", savedArticle.getId()))
+                .andExpect(status().isNotFound());
+        assertThat(countRows(savedArticle.getId())).isEqualTo(1);
+
+        // when & then * 보관 기간 안이면 정리되지 않고, 지나면 행이 삭제됩니다.
+        assertThat(articlePurger.purgeBefore(LocalDateTime.now().minusHours(1))).isZero();
+        assertThat(articlePurger.purgeBefore(LocalDateTime.now().plusSeconds(1))).isEqualTo(1);
+        assertThat(countRows(savedArticle.getId())).isZero();
+    }
+
+    @DisplayName("deleteArticle: 삭제한 글의 수정 이력은 정리 작업 전에도 조회되지 않는다.")
+    @Test
+    public void revisionsOfDeletedArticle() throws Exception {
+        // given * API로 글을 만들어 첫 리비전을 기록한 뒤 삭제합니다.
+        MvcResult created = mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("title", "content"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        mockMvc.perform(get("/api/articles/{id}/revisions/1", id))
+                .andExpect(status().isOk());
+
+        // when
+        mockMvc.perform(delete("/api/articles/{id}", id))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get("/api/articles/{id}/revisions", id))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/articles/{id}/revisions/1", id))
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("findRevision: 없는 리비전 번호는 404로 응답한다.")
+    @Test
+    public void missingRevision() throws Exception {
+        // given
+        MvcResult created = mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("title", "content"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        // when & then
+        mockMvc.perform(get("/api/articles/{id}/revisions/2", id))
+                .andExpect(status().isNotFound());
+    }
+
+    private long countRows(long id) {
+        return jdbcTemplate.queryForObject("select count(*) from article where id = ?", Long.class, id);
+    }
+
     @DisplayName("findArticle: 블로그 글 수정에 성공한다.")
     @Test
     public void updateArticle() throws Exception {
@@ -180,4 +333,27 @@ class BlogApiControllerTest {
         assertThat(article.getContent()).isEqualTo(newContent);
     }
 
-}
\ No newline at end of file
+    @DisplayName("updateArticle: 없거나 삭제된 글을 수정하면 404로 응답한다.")
+    @Test
+    public void updateMissingArticle() throws Exception {
+        // given * 글을 저장한 뒤 삭제합니다.
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        mockMvc.perform(delete("/api/articles/{id}", savedArticle.getId()))
+                .andExpect(status().isOk());
+        String requestBody = objectMapper.writeValueAsString(new UpdateArticleRequest("new title", "new content"));
+
+        // when & then
+        mockMvc.perform(put("/api/articles/{id}", savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put("/api/articles/{id}", Long.MAX_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isNotFound());
+    }
+
+}
@@ -0,0 +1,125 @@
+package org.example.springdeveloper.controller;
+
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"blog.article-list.streaming=true", "blog.article-list.chunk-size=3"})
+class BlogViewControllerTest {
+
+    private static final Pattern CARD_TITLE = Pattern.compile("<h5 class=\"card-title\">(.*?)</h5>");
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void mockMvcSetup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .build();
+        blogRepository.deleteAll();
+    }
+
+    @DisplayName("getArticles: 묶음 크기보다 많은 글을 묶음 경계에서 빠지거나 겹치지 않고 순서대로 모두 렌더링한다.")
+    @Test
+    public void rendersAllChunks() throws Exception {
+        // given * 묶음 크기(3)로 나누어떨어지지 않는 10개의 글을 저장합니다.
+        List<String> titles = saveArticles(10);
+
+        // when & then
+        assertThat(renderedTitles()).containsExactlyElementsOf(titles);
+    }
+
+    @DisplayName("getArticles: 글 수가 묶음 크기의 배수여도 모든 글을 한 번씩 순서대로 렌더링한다.")
+    @Test
+    public void rendersExactMultipleOfChunkSize() throws Exception {
+        // given
+        List<String> titles = saveArticles(9);
+
+        // when & then
+        assertThat(renderedTitles()).containsExactlyElementsOf(titles);
+    }
+
+    @DisplayName("ChunkedArticleIterator: 묶음마다 직전 묶음의 마지막 id 다음부터 읽고, 읽기 전에 응답을 비운다.")
+    @Test
+    public void loadsChunksAfterLastId() {
+        // given * id 1..7의 글을 id 순서로 돌려주는 읽기 함수를 준비합니다.
+        List<Long> requestedAfterIds = new ArrayList<>();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ChunkedArticleIterator iterator = new ChunkedArticleIterator(afterId -> {
+            requestedAfterIds.add(afterId);
+            return LongStream.rangeClosed(afterId + 1, Math.min(afterId + 3, 7))
+                    .mapToObj(BlogViewControllerTest::article)
+                    .toList();
+        }, 3, response);
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        iterator.forEachRemaining(item -> ids.add(item.getId()));
+
+        // then * 마지막 묶음이 3개보다 작으므로 빈 묶음을 더 읽지 않습니다.
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(requestedAfterIds).containsExactly(0L, 3L, 6L);
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    private List<String> saveArticles(int count) {
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String title = "article-" + i;
+            blogRepository.save(Article.builder()
+                    .title(title)
+                    .content("content")
+                    .build());
+            titles.add(title);
+        }
+        return titles;
+    }
+
+    private List<String> renderedTitles() throws Exception {
+        String html = mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        List<String> titles = new ArrayList<>();
+        Matcher matcher = CARD_TITLE.matcher(html);
+        while (matcher.find()) {
+            titles.add(matcher.group(1));
+        }
+        return titles;
+    }
+
+    private static Article article(long id) {
+        Article article = Article.builder()
+                .title("article-" + id)
+                .content("content")
+                .build();
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.springdeveloper.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.domain.Comment;
+import org.example.springdeveloper.dto.AddCommentRequest;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.example.springdeveloper.repository.CommentRepository;
+import org.example.springdeveloper.service.ArticlePurger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true") // 실행된 쿼리 수를 세기 위해 통계 사용
+class CommentApiControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ArticlePurger articlePurger;
+
+    private MockMvc mockMvc;
+    private Statistics statistics;
+    private long articleId;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .build();
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        blogRepository.deleteAll();
+        commentRepository.deleteAll();
+        this.articleId = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build()).getId();
+    }
+
+    @DisplayName("findComments: 답글이 중첩된 댓글 트리를 쿼리 한 번으로 조회한다.")
+    @Test
+    public void findCommentTree() throws Exception {
+        // given * 첫 번째 댓글에 2단계 답글과 다른 답글을 달고, 두 번째 댓글을 추가합니다.
+        long first = addComment(null, "first");
+        long reply = addComment(first, "reply");
+        addComment(reply, "reply of reply");
+        long second = addComment(null, "second");
+        addComment(first, "later reply");
+
+        // when
+        statistics.clear();
+        mockMvc.perform(get("/api/articles/{id}/comments", articleId))
+                // then * 최상위 댓글은 작성 순이고, 답글은 부모 아래에 작성 순으로 중첩됩니다.
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].content").value("first"))
+                .andExpect(jsonPath("$[0].replies[0].content").value("reply"))
+                .andExpect(jsonPath("$[0].replies[0].replies[0].content").value("reply of reply"))
+                .andExpect(jsonPath("$[0].replies[0].replies[0].depth").value(2))
+                .andExpect(jsonPath("$[0].replies[1].content").value("later reply"))
+                .andExpect(jsonPath("$[1].id").value(second))
+                .andExpect(jsonPath("$[1].replies.length()").value(0));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("findComments: 최상위 댓글 단위로 키셋 페이지네이션한다.")
+    @Test
+    public void findCommentsAfter() throws Exception {
+        // given
+        long first = addComment(null, "first");
+        addComment(first, "reply");
+        long second = addComment(null, "second");
+        addComment(second, "reply");
+        addComment(null, "third");
+
+        // when & then * 첫 페이지에는 첫 댓글과 그 답글만, 다음 페이지는 마지막 최상위 댓글 id 다음부터 나옵니다.
+        mockMvc.perform(get("/api/articles/{id}/comments", articleId).param("size", "1"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(first))
+                .andExpect(jsonPath("$[0].replies.length()").value(1));
+        mockMvc.perform(get("/api/articles/{id}/comments", articleId)
+                        .param("after", String.valueOf(first))
+                        .param("size", "2"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(second))
+                .andExpect(jsonPath("$[0].replies.length()").value(1))
+                .andExpect(jsonPath("$[1].content").value("third"));
+    }
+
+    @DisplayName("addComment: 최대 깊이를 넘는 답글은 부모와 같은 깊이에 붙는다.")
+    @Test
+    public void addCommentBeyondMaxDepth() throws Exception {
+        // given * 최대 깊이까지 답글을 이어 답니다.
+        long parent = addComment(null, "depth 0");
+        for (int depth = 1; depth <= Comment.MAX_DEPTH; depth++) {
+            parent = addComment(parent, "depth " + depth);
+        }
+
+        // when
+        long deeper = addComment(parent, "too deep");
+
+        // then
+        Comment deepest = commentRepository.findById(parent).orElseThrow();
+        Comment comment = commentRepository.findById(deeper).orElseThrow();
+        assertThat(comment.getDepth()).isEqualTo(Comment.MAX_DEPTH);
+        assertThat(comment.getParentId()).isEqualTo(deepest.getParentId());
+        assertThat(comment.getRootId()).isEqualTo(deepest.getRootId());
+    }
+
+    @DisplayName("deleteArticle: 삭제한 게시글의 댓글은 바로 조회되지 않고, 정리 작업에서 삭제된다.")
+    @Test
+    public void deleteArticleWithComments() throws Exception {
+        // given
+        addComment(addComment(null, "comment"), "reply");
+
+        // when
+        mockMvc.perform(delete("/api/articles/{id}", articleId))
+                .andExpect(status().isOk());
+
+        // then * 삭제 표시만 된 상태에서도 댓글은 조회되지 않고, 정리 작업이 실행되면 행도 삭제됩니다.
+        mockMvc.perform(get("/api/articles/{id}/comments", articleId))
+                .andExpect(jsonPath("$.length()").value(0));
+        assertThat(commentRepository.count()).isEqualTo(2);
+
+        articlePurger.purgeBefore(LocalDateTime.now().plusSeconds(1));
+        assertThat(commentRepository.count()).isZero();
+    }
+
+    private long addComment(Long parentId, String content) throws Exception {
+        String response = mockMvc.perform(post("/api/articles/{id}/comments", articleId)
+                        .principal(() -> "writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddCommentRequest(parentId, content))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
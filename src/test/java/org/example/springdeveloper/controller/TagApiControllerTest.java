@@ -0,0 +1,162 @@
+package org.example.springdeveloper.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.domain.Tag;
+import org.example.springdeveloper.dto.UpdateArticleTagsRequest;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.example.springdeveloper.repository.TagRepository;
+import org.example.springdeveloper.service.ArticlePurger;
+import org.example.springdeveloper.service.TagService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true") // 실행된 쿼리 수를 세기 위해 통계 사용
+class TagApiControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    @Autowired
+    TagService tagService;
+
+    @Autowired
+    ArticlePurger articlePurger;
+
+    private MockMvc mockMvc;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .build();
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        blogRepository.deleteAll();
+        articlePurger.purgeBefore(LocalDateTime.now().plusSeconds(1)); // 앞선 테스트에서 삭제 표시된 글의 태그 연결 행 정리
+        tagRepository.deleteAll();
+    }
+
+    @DisplayName("findAllArticles: 태그가 붙은 글 목록 조회의 쿼리 수는 글 수와 관계없다.")
+    @Test
+    public void findAllArticlesWithConstantQueries() throws Exception {
+        // given * 태그가 붙은 글 3개일 때의 쿼리 수를 셉니다.
+        createTaggedArticles(3);
+        long fewArticles = countStatements(get("/api/articles"));
+
+        // when * 글을 30개로 늘린 뒤 다시 셉니다.
+        createTaggedArticles(27);
+        long manyArticles = countStatements(get("/api/articles"));
+
+        // then * 태그를 fetch join으로 함께 읽으므로 두 경우 모두 쿼리 한 번입니다.
+        assertThat(fewArticles).isEqualTo(1);
+        assertThat(manyArticles).isEqualTo(fewArticles);
+    }
+
+    @DisplayName("findArticlesByTag: 태그별 글 목록 조회의 쿼리 수는 글 수와 관계없다.")
+    @Test
+    public void findArticlesByTagWithConstantQueries() throws Exception {
+        // given
+        createTaggedArticles(3);
+        long fewArticles = countStatements(get("/api/tags/java/articles").param("size", "100"));
+
+        // when
+        createTaggedArticles(27);
+        long manyArticles = countStatements(get("/api/tags/java/articles").param("size", "100"));
+
+        // then * 글 목록 한 번, 그 글들의 태그를 @BatchSize로 한 번 읽습니다.
+        assertThat(fewArticles).isLessThanOrEqualTo(2);
+        assertThat(manyArticles).isEqualTo(fewArticles);
+        mockMvc.perform(get("/api/tags/java/articles").param("size", "100"))
+                .andExpect(jsonPath("$.length()").value(30))
+                .andExpect(jsonPath("$[0].tags.length()").value(3));
+    }
+
+    @DisplayName("replaceTags: 태그를 바꾸거나 글을 삭제하면 태그별 글 수가 갱신된다.")
+    @Test
+    public void maintainsTagCounts() throws Exception {
+        // given * 글 두 개에 태그를 붙입니다.
+        Article first = saveArticle();
+        Article second = saveArticle();
+        replaceTags(first.getId(), List.of("Java", " spring "));
+        replaceTags(second.getId(), List.of("java"));
+        assertThat(tagCounts()).isEqualTo(Map.of("java", 2L, "spring", 1L));
+
+        // when * 첫 번째 글의 태그를 바꾸고, 두 번째 글을 삭제합니다.
+        replaceTags(first.getId(), List.of("spring", "jpa"));
+        mockMvc.perform(delete("/api/articles/{id}", second.getId()))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(tagCounts()).isEqualTo(Map.of("java", 0L, "spring", 1L, "jpa", 1L));
+        mockMvc.perform(get("/api/tags"))
+                .andExpect(jsonPath("$[0].articleCount").value(1));
+    }
+
+    private void createTaggedArticles(int count) {
+        for (int i = 0; i < count; i++) {
+            Article article = saveArticle();
+            tagService.replaceTags(article.getId(), List.of("java", "spring", "tag" + (i % 5)));
+        }
+    }
+
+    private Article saveArticle() {
+        return blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+    }
+
+    private void replaceTags(long articleId, List<String> tags) throws Exception {
+        mockMvc.perform(put("/api/articles/{id}/tags", articleId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleTagsRequest(tags))))
+                .andExpect(status().isOk());
+    }
+
+    private Map<String, Long> tagCounts() {
+        return tagRepository.findAll().stream()
+                .collect(Collectors.toMap(Tag::getName, Tag::getArticleCount));
+    }
+
+    private long countStatements(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
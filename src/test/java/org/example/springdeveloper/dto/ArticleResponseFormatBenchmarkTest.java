@@ -0,0 +1,90 @@
+package org.example.springdeveloper.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.springdeveloper.domain.Article;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON / CBOR / Smile 응답 형식의 크기와 인코딩·디코딩 시간을 비교하는 벤치마크입니다.
+ * 일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class ArticleResponseFormatBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 200;
+
+    private final Map<String, ObjectMapper> mappers = Map.of(
+            "json", new ObjectMapper(),
+            "cbor", new ObjectMapper(new CBORFactory()),
+            "smile", new ObjectMapper(new SmileFactory()));
+
+    @DisplayName("benchmark: 일반 게시글 목록(1KB 본문 x 50건)")
+    @Test
+    public void typicalArticles() throws Exception {
+        run("typical", articles(50, 1024));
+    }
+
+    @DisplayName("benchmark: 큰 게시글 목록(1MB 본문 x 4건)")
+    @Test
+    public void largeArticles() throws Exception {
+        run("large", articles(4, 1024 * 1024));
+    }
+
+    private void run(String name, List<ArticleResponse> payload) throws Exception {
+        for (String format : List.of("json", "cbor", "smile")) {
+            ObjectMapper mapper = mappers.get(format);
+            byte[] encoded = mapper.writeValueAsBytes(payload);
+
+            // 측정 전에 JIT가 인코딩/디코딩 경로를 컴파일하도록 충분히 반복
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(payload), new TypeReference<List<ArticleResponse>>() {});
+            }
+
+            long encodeNanos = 0;
+            long decodeNanos = 0;
+            List<ArticleResponse> decoded = null;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                encoded = mapper.writeValueAsBytes(payload);
+                long encodedAt = System.nanoTime();
+                decoded = mapper.readValue(encoded, new TypeReference<>() {});
+                decodeNanos += System.nanoTime() - encodedAt;
+                encodeNanos += encodedAt - start;
+            }
+
+            assertThat(decoded).hasSize(payload.size());
+            assertThat(decoded.get(0).getContent()).isEqualTo(payload.get(0).getContent());
+            System.out.printf("%-8s %-6s size=%,10d B  encode=%8.1f us  decode=%8.1f us%n", name, format,
+                    encoded.length, encodeNanos / 1000.0 / MEASURED_ROUNDS, decodeNanos / 1000.0 / MEASURED_ROUNDS);
+        }
+    }
+
+    // 한글과 영문, 줄바꿈, 따옴표가 섞인 본문으로 실제 게시글과 비슷한 문자열 구성
+    private List<ArticleResponse> articles(int count, int contentLength) {
+        String sentence = "스프링 부트 블로그 \"본문\" example text with some escapes\n\t";
+        StringBuilder content = new StringBuilder(contentLength);
+        while (content.length() < contentLength) {
+            content.append(sentence);
+        }
+        List<ArticleResponse> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            responses.add(new ArticleResponse(Article.builder()
+                    .title("제목 " + i)
+                    .content(content.substring(0, contentLength))
+                    .build()));
+        }
+        return responses;
+    }
+}
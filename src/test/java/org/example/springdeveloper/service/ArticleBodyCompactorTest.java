@@ -0,0 +1,111 @@
+package org.example.springdeveloper.service;
+
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "blog.body-store.enabled=true",
+        "blog.body-store.threshold-bytes=16",
+        "blog.body-store.segment-size-bytes=256",
+        "blog.body-store.compaction-live-ratio=0.9",
+        "blog.body-store.compaction-interval-ms=3600000" // 테스트 중 주기적 압축이 끼어들지 않도록 함
+})
+class ArticleBodyCompactorTest {
+
+    @TempDir
+    static Path bodyDirectory;
+
+    @DynamicPropertySource
+    static void bodyStoreProperties(DynamicPropertyRegistry registry) {
+        registry.add("blog.body-store.directory", () -> bodyDirectory.toString());
+    }
+
+    @Autowired
+    ArticleBodyCompactor articleBodyCompactor;
+
+    @Autowired
+    ArticleBodyStore articleBodyStore;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @DisplayName("ArticleEntityListener: 기준보다 큰 본문은 행 밖에 저장되고, 다시 로드하면 세그먼트 파일에서 읽힌다.")
+    @Test
+    public void roundTripsOffRowBody() {
+        // given
+        String body = "행 밖에 저장될 본문입니다. ".repeat(5);
+
+        // when
+        long id = blogRepository.save(Article.builder()
+                .title("title")
+                .content(body)
+                .build()).getId();
+
+        // then * 행에는 빈 본문과 위치만 남고, 새로 로드한 엔티티는 같은 본문을 돌려줍니다.
+        assertThat(jdbcTemplate.queryForObject("select content from article where id = ?", String.class, id))
+                .isEmpty();
+        assertThat(bodySegment(id)).isNotNull();
+        Article loaded = blogRepository.findById(id).orElseThrow();
+        assertThat(loaded.hasOffRowBody()).isTrue();
+        assertThat(loaded.getContent()).isEqualTo(body);
+    }
+
+    @DisplayName("compact: 살아 있는 본문이 적은 세그먼트는 본문을 옮긴 뒤 폐기하고, 옮긴 본문은 새 위치에서 읽힌다.")
+    @Test
+    public void compactsAndRetiresSegment() throws Exception {
+        // given * 새 세그먼트에서 두 본문을 기록하고, 세 번째 본문으로 다음 세그먼트로 넘어갑니다.
+        String dead = "d".repeat(100);
+        String live = "l".repeat(100);
+        long deadId = save(dead);
+        long liveId = save(live);
+        save("n".repeat(100));
+        int segment = bodySegment(liveId);
+        assertThat(bodySegment(deadId)).isEqualTo(segment);
+        assertThat(articleBodyStore.activeSegment()).isGreaterThan(segment);
+
+        // when * 한 본문을 삭제해 살아 있는 비율을 낮춘 뒤 압축합니다.
+        blogService.delete(deadId);
+        articleBodyCompactor.compact();
+
+        // then * 살아 있는 본문은 현재 세그먼트로 옮겨지고, 이전 세그먼트는 폐기 표시됩니다.
+        assertThat(bodySegment(liveId)).isEqualTo(articleBodyStore.activeSegment());
+        assertThat(articleBodyStore.isRetired(segment)).isTrue();
+        assertThat(blogRepository.findById(liveId).orElseThrow().getContent()).isEqualTo(live);
+
+        // when * 다음 주기에 폐기된 세그먼트 파일이 삭제됩니다.
+        articleBodyCompactor.compact();
+
+        // then * 파일이 삭제된 뒤에도 옮긴 본문은 그대로 읽힙니다.
+        assertThat(articleBodyStore.segments()).doesNotContain(segment);
+        assertThat(blogRepository.findById(liveId).orElseThrow().getContent()).isEqualTo(live);
+    }
+
+    private long save(String content) {
+        return blogRepository.save(Article.builder()
+                .title("title")
+                .content(content)
+                .build()).getId();
+    }
+
+    private Integer bodySegment(long id) {
+        return jdbcTemplate.queryForObject("select body_segment from article where id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.springdeveloper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleBodyStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("append/read: 기록한 본문을 메모리 맵으로 다시 읽고, 세그먼트가 차면 다음 세그먼트로 넘어간다.")
+    @Test
+    public void appendAndRead() throws Exception {
+        // given * 기준 10바이트, 세그먼트 최대 32바이트인 저장소를 만듭니다.
+        ArticleBodyStore store = new ArticleBodyStore(true, 10, 32, directory);
+
+        // when * 한 세그먼트에 함께 들어가지 않는 크기의 본문 두 개를 기록합니다.
+        ArticleBodyStore.BodyRef first = store.append("첫 번째 본문입니다!");
+        ArticleBodyStore.BodyRef second = store.append("second body 123456");
+
+        // then * 두 번째 본문은 새 세그먼트에 기록되고, 둘 다 그대로 읽힙니다.
+        assertThat(store.shouldStore("short")).isFalse();
+        assertThat(store.shouldStore("a body longer than ten bytes")).isTrue();
+        assertThat(second.segment()).isEqualTo(first.segment() + 1);
+        assertThat(store.read(first.segment(), first.offset(), first.length())).isEqualTo("첫 번째 본문입니다!");
+        assertThat(StandardCharsets.UTF_8.decode(store.slice(second.segment(), second.offset(), second.length()))
+                .toString()).isEqualTo("second body 123456");
+
+        // when * 폐기 표시 후 삭제하면 세그먼트 목록에서 사라집니다.
+        store.retire(first.segment());
+        store.deleteRetiredSegments();
+
+        assertThat(store.segments()).containsExactly(second.segment());
+        store.close();
+    }
+
+    @DisplayName("ArticleBodyStore: int 오프셋으로 읽을 수 없는 2GB 초과 세그먼트 크기는 거절한다.")
+    @Test
+    public void rejectsOversizedSegment() {
+        // when & then
+        assertThatThrownBy(() -> new ArticleBodyStore(true, 10, Integer.MAX_VALUE + 1L, directory))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ArticleBodyStore(true, 10, 0, directory))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.springdeveloper.service;
+
+import org.example.springdeveloper.domain.Article;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleCacheTest {
+
+    @DisplayName("put: 항목 수가 가득 차면 최근에 읽히지 않은 글부터 내보낸다.")
+    @Test
+    public void evictsUnreferencedEntries() {
+        // given * 세 건까지 보관하는 캐시를 채우고, 1번 글만 읽습니다.
+        ArticleCache cache = new ArticleCache(3, 1_000_000, 100_000);
+        for (long id = 1; id <= 3; id++) {
+            cache.put(article(id, "content"), cache.stamp());
+        }
+        cache.get(1);
+
+        // when
+        cache.put(article(4, "content"), cache.stamp());
+
+        // then * 읽힌 1번은 남고, 읽히지 않은 가장 오래된 2번이 빠집니다.
+        assertThat(cache.get(1)).isNotNull();
+        assertThat(cache.get(2)).isNull();
+        assertThat(cache.get(3)).isNotNull();
+        assertThat(cache.get(4)).isNotNull();
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @DisplayName("put: 추정 바이트 합이 상한을 넘지 않도록 내보내고, 너무 큰 글은 보관하지 않는다.")
+    @Test
+    public void boundsBytes() {
+        // given * 본문 1,000자(약 2KB) 글 두 건만 들어가는 캐시
+        ArticleCache cache = new ArticleCache(100, 5_000, 3_000);
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            cache.put(article(id, "a".repeat(1_000)), cache.stamp());
+        }
+        cache.put(article(6, "a".repeat(10_000)), cache.stamp());
+
+        // then
+        assertThat(cache.bytes()).isLessThanOrEqualTo(5_000);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(5)).isNotNull();
+        assertThat(cache.get(6)).isNull();
+    }
+
+    @DisplayName("put: 조회하는 사이에 무효화가 있었으면 이전 값을 보관하지 않는다.")
+    @Test
+    public void ignoresStalePut() {
+        // given * 조회 직전에 stamp를 받고, 조회하는 사이에 다른 요청이 글을 수정해 무효화합니다.
+        ArticleCache cache = new ArticleCache(10, 1_000_000, 100_000);
+        long stamp = cache.stamp();
+        cache.invalidate(1, 0);
+
+        // when
+        cache.put(article(1, "stale"), stamp);
+
+        // then
+        assertThat(cache.get(1)).isNull();
+
+        // 전체 무효화도 같음
+        long next = cache.stamp();
+        cache.invalidateAll();
+        cache.put(article(1, "stale"), next);
+        assertThat(cache.get(1)).isNull();
+    }
+
+    @DisplayName("invalidate: 무효화된 글은 바로 빠지고 크기 합에서도 제외된다.")
+    @Test
+    public void invalidateReleasesBytes() {
+        // given
+        ArticleCache cache = new ArticleCache(10, 1_000_000, 100_000);
+        cache.put(article(1, "content"), cache.stamp());
+        cache.put(article(2, "content"), cache.stamp());
+        long bytes = cache.bytes();
+
+        // when
+        cache.invalidate(1, 0);
+
+        // then
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(2)).isNotNull();
+        assertThat(cache.bytes()).isEqualTo(bytes / 2);
+    }
+
+    private static Article article(long id, String content) {
+        Article article = Article.builder()
+                .title("title")
+                .content(content)
+                .build();
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+}
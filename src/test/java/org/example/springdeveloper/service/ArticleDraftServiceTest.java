@@ -0,0 +1,218 @@
+package org.example.springdeveloper.service;
+
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.domain.ArticleDraft;
+import org.example.springdeveloper.dto.ArticleDraftResponse;
+import org.example.springdeveloper.dto.UpdateArticleRequest;
+import org.example.springdeveloper.repository.ArticleDraftRepository;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "blog.draft.flush-interval-ms=3600000") // 테스트 중 주기적 기록이 끼어들지 않도록 함
+class ArticleDraftServiceTest {
+
+    private static final String AUTHOR = "writer@example.com";
+
+    @Autowired
+    ArticleDraftService articleDraftService;
+
+    @Autowired
+    ArticleDraftRepository articleDraftRepository;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    BlogService blogService;
+
+    private long articleId;
+
+    @BeforeEach
+    public void setup() {
+        articleDraftService.flush();
+        articleDraftRepository.deleteAll();
+        blogRepository.deleteAll();
+        articleId = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build()).getId();
+    }
+
+    @DisplayName("save/flush: 임시 저장본은 메모리에서 병합되고, 기록 주기에 최신 상태만 기록된다.")
+    @Test
+    public void saveAndFlush() {
+        // given * 같은 글을 여러 번 임시 저장합니다. 본문은 VARCHAR(255)보다 깁니다.
+        String longContent = "a".repeat(10_000);
+        articleDraftService.save(AUTHOR, articleId, new UpdateArticleRequest("first", "first"));
+        articleDraftService.save(AUTHOR, articleId, new UpdateArticleRequest("second", longContent));
+
+        // then * 기록 전에는 메모리의 최신 저장본이 조회되고 DB에는 없습니다.
+        ArticleDraftResponse pending = articleDraftService.find(AUTHOR, articleId).orElseThrow();
+        assertThat(pending.getTitle()).isEqualTo("second");
+        assertThat(pending.isFlushed()).isFalse();
+        assertThat(articleDraftRepository.count()).isZero();
+
+        // when
+        articleDraftService.flush();
+
+        // then * 최신 저장본 한 건만 기록됩니다.
+        ArticleDraft stored = articleDraftRepository.findByAuthorAndArticleId(AUTHOR, articleId).orElseThrow();
+        assertThat(stored.getTitle()).isEqualTo("second");
+        assertThat(stored.getContent()).isEqualTo(longContent);
+        assertThat(articleDraftService.find(AUTHOR, articleId).orElseThrow().isFlushed()).isTrue();
+    }
+
+    @DisplayName("flush: 기록할 수 없는 저장본은 버리고, 다른 저장본은 기록한다.")
+    @Test
+    public void flushSkipsBadDraft() {
+        // given * 제목 길이 제한(255)을 넘는 저장본과 정상 저장본을 만듭니다.
+        articleDraftService.save("bad@example.com", articleId, new UpdateArticleRequest("t".repeat(300), "content"));
+        articleDraftService.save(AUTHOR, articleId, new UpdateArticleRequest("title", "content"));
+
+        // when
+        articleDraftService.flush();
+
+        // then * 정상 저장본은 기록되고, 잘못된 저장본은 다시 시도하지 않도록 버려집니다.
+        assertThat(articleDraftRepository.findByAuthorAndArticleId(AUTHOR, articleId)).isPresent();
+        assertThat(articleDraftRepository.findByAuthorAndArticleId("bad@example.com", articleId)).isEmpty();
+        assertThat(articleDraftService.find("bad@example.com", articleId)).isEmpty();
+    }
+
+    @DisplayName("publish: 임시 저장본을 게시글에 반영하고 임시 저장본을 삭제한다.")
+    @Test
+    public void publish() {
+        // given * 기록된 저장본 위에 더 최신 저장본이 메모리에 있습니다.
+        articleDraftService.save(AUTHOR, articleId, new UpdateArticleRequest("stored", "stored"));
+        articleDraftService.flush();
+        articleDraftService.save(AUTHOR, articleId, new UpdateArticleRequest("latest", "latest content"));
+
+        // when
+        articleDraftService.publish(AUTHOR, articleId);
+
+        // then * 메모리의 최신 저장본이 반영되고, 임시 저장본은 모두 사라집니다.
+        Article article = blogRepository.findById(articleId).orElseThrow();
+        assertThat(article.getTitle()).isEqualTo("latest");
+        assertThat(article.getContent()).isEqualTo("latest content");
+        assertThat(articleDraftService.find(AUTHOR, articleId)).isEmpty();
+    }
+
+    @DisplayName("publish: 반영에 실패하면 메모리의 임시 저장본을 잃지 않는다.")
+    @Test
+    public void publishFailureKeepsDraft() {
+        // given * 게시글에 반영할 수 없는 저장본 (제목 없음)
+        articleDraftService.save(AUTHOR, articleId, new UpdateArticleRequest(null, "content"));
+
+        // when & then
+        assertThatThrownBy(() -> articleDraftService.publish(AUTHOR, articleId))
+                .isInstanceOf(RuntimeException.class);
+        ArticleDraftResponse draft = articleDraftService.find(AUTHOR, articleId).orElseThrow();
+        assertThat(draft.getContent()).isEqualTo("content");
+        assertThat(blogRepository.findById(articleId).orElseThrow().getTitle()).isEqualTo("title");
+    }
+
+    @DisplayName("discard: 메모리와 DB의 임시 저장본을 모두 버린다.")
+    @Test
+    public void discard() {
+        // given
+        articleDraftService.save(AUTHOR, articleId, new UpdateArticleRequest("stored", "stored"));
+        articleDraftService.flush();
+        articleDraftService.save(AUTHOR, articleId, new UpdateArticleRequest("pending", "pending"));
+
+        // when
+        articleDraftService.discard(AUTHOR, articleId);
+
+        // then
+        assertThat(articleDraftService.find(AUTHOR, articleId)).isEmpty();
+        assertThat(articleDraftRepository.count()).isZero();
+    }
+
+    @DisplayName("find/publish: 삭제된 게시글의 임시 저장본은 조회하거나 게시할 수 없다.")
+    @Test
+    public void draftOfDeletedArticle() {
+        // given * 임시 저장본을 기록한 뒤 게시글을 삭제합니다.
+        articleDraftService.save(AUTHOR, articleId, new UpdateArticleRequest("stored", "stored"));
+        articleDraftService.flush();
+        blogService.delete(articleId);
+
+        // when & then
+        assertThatThrownBy(() -> articleDraftService.find(AUTHOR, articleId))
+                .isInstanceOf(ArticleNotFoundException.class);
+        assertThatThrownBy(() -> articleDraftService.publish(AUTHOR, articleId))
+                .isInstanceOf(ArticleNotFoundException.class);
+    }
+
+    @DisplayName("publish: 임시 저장본이 없으면 DraftNotFoundException을 던진다.")
+    @Test
+    public void publishWithoutDraft() {
+        // when & then
+        assertThatThrownBy(() -> articleDraftService.publish(AUTHOR, articleId))
+                .isInstanceOf(DraftNotFoundException.class);
+    }
+
+    @DisplayName("save: 없는 게시글의 임시 저장본은 보관하지 않는다.")
+    @Test
+    public void saveForMissingArticle() {
+        // when & then
+        assertThatThrownBy(() -> articleDraftService.save(AUTHOR, Long.MAX_VALUE, new UpdateArticleRequest("t", "c")))
+                .isInstanceOf(ArticleNotFoundException.class);
+    }
+
+    @DisplayName("save: 보관 중인 저장본이 상한에 도달하면 앞당겨 기록하고, 기록할 수 없으면 거절한다.")
+    @Test
+    public void boundsPendingDrafts() throws Exception {
+        // given * 상한을 2로 낮추고 두 사용자의 저장본을 보관합니다.
+        int maxPending = (int) ReflectionTestUtils.getField(articleDraftService, "maxPending");
+        ReflectionTestUtils.setField(articleDraftService, "maxPending", 2);
+        try {
+            articleDraftService.save("a@example.com", articleId, new UpdateArticleRequest("a", "a"));
+            articleDraftService.save("b@example.com", articleId, new UpdateArticleRequest("b", "b"));
+
+            // when * 세 번째 저장본이 들어오면 앞의 두 저장본을 바로 기록하고 받아 둡니다.
+            articleDraftService.save("c@example.com", articleId, new UpdateArticleRequest("c", "c"));
+
+            // then
+            assertThat(articleDraftRepository.count()).isEqualTo(2);
+
+            // when * 다른 스레드가 기록 중이라 자리를 만들 수 없으면 거절합니다. (보관 중인 저장본 덮어쓰기는 허용)
+            articleDraftService.save("d@example.com", articleId, new UpdateArticleRequest("d", "d"));
+            ReentrantLock flushLock = (ReentrantLock) ReflectionTestUtils.getField(articleDraftService, "flushLock");
+            CountDownLatch locked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread flusher = new Thread(() -> {
+                flushLock.lock();
+                try {
+                    locked.countDown();
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    flushLock.unlock();
+                }
+            });
+            flusher.start();
+            locked.await();
+            try {
+                assertThatThrownBy(() -> articleDraftService.save("e@example.com", articleId,
+                        new UpdateArticleRequest("e", "e")))
+                        .isInstanceOf(DraftBufferFullException.class);
+                articleDraftService.save("d@example.com", articleId, new UpdateArticleRequest("d2", "d2"));
+            } finally {
+                release.countDown();
+                flusher.join();
+            }
+        } finally {
+            ReflectionTestUtils.setField(articleDraftService, "maxPending", maxPending);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.springdeveloper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleIdBloomFilterTest {
+
+    @DisplayName("mightContain: 추가한 id는 항상 있을 수 있다고 답하고, 없는 id의 오탐률은 설정값 근처다.")
+    @Test
+    public void noFalseNegatives() {
+        // given * 10만 개 기준, 오탐률 1%로 필터를 만들고 짝수 id만 넣습니다.
+        ArticleIdBloomFilter filter = new ArticleIdBloomFilter(true, 100_000, 0.01, 4 * 1024 * 1024, 0);
+        filter.rebuild(50_000, consumer -> LongStream.rangeClosed(1, 50_000).map(i -> i * 2).forEach(consumer));
+
+        // when * 넣은 id와 넣지 않은 홀수 id를 조회합니다.
+        boolean allPresent = LongStream.rangeClosed(1, 50_000).allMatch(i -> filter.mightContain(i * 2));
+        long falsePositives = LongStream.rangeClosed(1, 50_000).filter(i -> filter.mightContain(i * 2 - 1)).count();
+
+        // then * 넣은 id는 모두 있다고 답하고, 오탐은 2% 미만입니다.
+        assertThat(allPresent).isTrue();
+        assertThat(falsePositives).isLessThan(1_000);
+        assertThat(filter.stats().negatives()).isEqualTo(50_000 - falsePositives);
+    }
+
+    @DisplayName("mightContain: 필터를 만들기 전이거나 무효화된 뒤에는 모든 id가 있을 수 있다고 답한다.")
+    @Test
+    public void answersMaybeUntilBuilt() {
+        // given
+        ArticleIdBloomFilter filter = new ArticleIdBloomFilter(true, 1_000, 0.01, 1024, 0);
+
+        // then * 만들기 전
+        assertThat(filter.mightContain(42)).isTrue();
+        assertThat(filter.needsRebuild(0.2)).isTrue();
+
+        // when * 빈 목록으로 만든 뒤 새 id를 추가합니다.
+        filter.rebuild(0, consumer -> { });
+        filter.add(7);
+
+        // then
+        assertThat(filter.mightContain(7)).isTrue();
+        assertThat(filter.needsRebuild(0.2)).isFalse();
+
+        // when * 메시지 유실 등으로 무효화되면 다시 만들 때까지 DB로 확인하게 합니다.
+        filter.invalidateAll();
+
+        // then
+        assertThat(filter.mightContain(42)).isTrue();
+        assertThat(filter.needsRebuild(0.2)).isTrue();
+    }
+
+    @DisplayName("mightContain: 다른 노드의 새 id가 도착하기 전에도, 확실히 아는 최대 id보다 큰 id는 없다고 답하지 않는다.")
+    @Test
+    public void newerIdsAreMaybeUntilSettled() {
+        // given * 유예 시간이 충분히 긴 필터를 짝수 id 2..100으로 만듭니다.
+        ArticleIdBloomFilter filter = new ArticleIdBloomFilter(true, 1_000, 0.01, 1024, 3_600_000);
+        filter.rebuild(50, consumer -> LongStream.rangeClosed(1, 50).map(i -> i * 2).forEach(consumer));
+
+        // when * 다른 노드의 새 글 200만 도착하고, 그보다 먼저 만들어진 150은 아직 도착하지 않았습니다.
+        filter.add(200);
+
+        // then * 만들 때 읽은 최대 id(100)보다 큰 id는 모두 DB로 확인하게 합니다.
+        assertThat(filter.mightContain(150)).isTrue();
+        assertThat(filter.mightContain(101)).isTrue();
+        assertThat(LongStream.rangeClosed(1, 49).map(i -> i * 2 - 1).filter(filter::mightContain).count())
+                .isLessThan(49);
+    }
+
+    @DisplayName("mightContain: 추가된 지 유예 시간이 지난 id까지는 필터로 없는 id를 판단한다.")
+    @Test
+    public void settledIdsAreFiltered() {
+        // given * 유예 시간이 0인 필터에 새 id 101..200 중 짝수를 추가합니다.
+        ArticleIdBloomFilter filter = new ArticleIdBloomFilter(true, 1_000, 0.01, 1024, 0);
+        filter.rebuild(50, consumer -> LongStream.rangeClosed(1, 50).map(i -> i * 2).forEach(consumer));
+        LongStream.rangeClosed(51, 100).map(i -> i * 2).forEach(filter::add);
+
+        // when * 두 번의 주기가 지나 200까지 확실히 아는 id가 됩니다.
+        filter.mightContain(1);
+        filter.mightContain(1);
+
+        // then * 101..199의 홀수 id 대부분은 없다고 답하고, 200보다 큰 id는 있을 수 있다고 답합니다.
+        assertThat(LongStream.rangeClosed(51, 99).map(i -> i * 2 + 1).filter(filter::mightContain).count())
+                .isLessThan(10);
+        assertThat(filter.mightContain(201)).isTrue();
+    }
+
+    @DisplayName("epochReset: 주기적 에포크 초기화에는 필터를 비우지 않는다.")
+    @Test
+    public void keepsFilterOnEpochReset() {
+        // given
+        ArticleIdBloomFilter filter = new ArticleIdBloomFilter(true, 1_000, 0.01, 1024, 0);
+        filter.rebuild(0, consumer -> { });
+
+        // when
+        filter.epochReset();
+
+        // then
+        assertThat(filter.needsRebuild(0.2)).isFalse();
+        assertThat(filter.stats().ready()).isTrue();
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.springdeveloper.service;
+
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.dto.ArticleImportResult;
+import org.example.springdeveloper.repository.ArticleImportCheckpointRepository;
+import org.example.springdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "blog.import.batch-size=2") // 배치 경계를 여러 번 지나도록 작은 배치 크기 사용
+class ArticleImportServiceTest {
+
+    @Autowired
+    ArticleImportService articleImportService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ArticleImportCheckpointRepository checkpointRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setup() {
+        blogRepository.deleteAll();
+        checkpointRepository.deleteAll();
+    }
+
+    @DisplayName("importFile: NDJSON 파일을 가져오고 실패한 레코드를 기록한다.")
+    @Test
+    public void importNdjson() throws Exception {
+        // given * 정상 레코드 3건, 검증 실패 1건, 파싱 실패 1건으로 된 파일을 만듭니다.
+        Path source = tempDir.resolve("articles.ndjson");
+        Files.writeString(source, String.join("\n",
+                "{\"title\":\"t1\",\"content\":\"c1\"}",
+                "{\"title\":\"\",\"content\":\"c2\"}",
+                "{\"title\":\"t3\",\"content\":\"c3\"}",
+                "not json",
+                "",
+                "{\"title\":\"t5\",\"content\":\"c5\"}"), StandardCharsets.UTF_8);
+
+        // when
+        ArticleImportResult result = articleImportService.importFile(source, ArticleImportFormat.NDJSON);
+
+        // then * 정상 레코드만 저장되고, 실패한 레코드 번호가 .failed 파일에 남는지 확인합니다.
+        assertThat(result.getImportedCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getLastRecord()).isEqualTo(5);
+        assertThat(blogRepository.findAll()).extracting(Article::getTitle).containsExactlyInAnyOrder("t1", "t3", "t5");
+
+        List<String> failedRows = Files.readAllLines(Path.of(result.getFailedRows()));
+        assertThat(failedRows).hasSize(2);
+        assertThat(failedRows.get(0)).startsWith("2\t");
+        assertThat(failedRows.get(1)).startsWith("4\t");
+    }
+
+    @DisplayName("importFile: 체크포인트 이후의 레코드만 이어서 가져온다.")
+    @Test
+    public void resumeFromCheckpoint() throws Exception {
+        // given * CSV 파일을 한 번 가져온 뒤 레코드를 추가합니다.
+        Path source = tempDir.resolve("articles.csv");
+        Files.writeString(source, "title,content\nt1,c1\n\"t,2\",\"multi\nline \"\"quoted\"\"\"\n",
+                StandardCharsets.UTF_8);
+        articleImportService.importFile(source, ArticleImportFormat.CSV);
+        Files.writeString(source, "t3,c3\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // when * 같은 파일을 다시 가져옵니다.
+        ArticleImportResult result = articleImportService.importFile(source, ArticleImportFormat.CSV);
+
+        // then * 이미 가져온 레코드는 중복 저장되지 않습니다.
+        assertThat(result.getImportedCount()).isEqualTo(3);
+        assertThat(blogRepository.findAll()).hasSize(3);
+        assertThat(blogRepository.findAll()).extracting(Article::getContent)
+                .contains("multi\nline \"quoted\"");
+    }
+
+    @DisplayName("importFile: 상한을 넘는 NDJSON 줄은 메모리에 쌓지 않고 실패 레코드로 기록한다.")
+    @Test
+    public void failsOversizedNdjsonRecord() throws Exception {
+        // given * 두 레코드 사이에 8M자를 넘는 한 줄이 있는 파일을 만듭니다. (줄바꿈은 \r\n)
+        Path source = tempDir.resolve("oversized.ndjson");
+        Files.writeString(source, String.join("\r\n",
+                "{\"title\":\"t1\",\"content\":\"c1\"}",
+                "{\"title\":\"big\",\"content\":\"" + "a".repeat(8 * 1024 * 1024) + "\"}",
+                "{\"title\":\"t3\",\"content\":\"c3\"}"), StandardCharsets.UTF_8);
+
+        // when
+        ArticleImportResult result = articleImportService.importFile(source, ArticleImportFormat.NDJSON);
+
+        // then * 긴 줄만 실패하고, 그 뒤의 레코드는 그대로 가져옵니다.
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getLastRecord()).isEqualTo(3);
+        assertThat(blogRepository.findAll()).extracting(Article::getTitle).containsExactlyInAnyOrder("t1", "t3");
+        assertThat(Files.readAllLines(Path.of(result.getFailedRows())))
+                .containsExactly("2\trecord exceeds " + 8 * 1024 * 1024 + " characters");
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.springdeveloper.service;
+
+import org.example.springdeveloper.domain.Article;
+import org.example.springdeveloper.dto.AddArticleRequest;
+import org.example.springdeveloper.dto.ArticleRevisionResponse;
+import org.example.springdeveloper.dto.UpdateArticleRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ArticleRevisionServiceTest {
+
+    private static final String PREFIX = "x".repeat(200); // delta가 본문보다 작아 delta 리비전으로 저장되도록 긴 공통 부분을 둠
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    ArticleRevisionService articleRevisionService;
+
+    @DisplayName("recordUpdated: 같은 글을 동시에 수정해도 모든 리비전이 실제로 저장된 본문으로 복원된다.")
+    @Test
+    public void concurrentUpdatesKeepChain() throws Exception {
+        // given
+        Article article = blogService.save(new AddArticleRequest("title", PREFIX + " initial"));
+        long id = article.getId();
+        Set<String> written = ConcurrentHashMap.newKeySet();
+        written.add(PREFIX + " initial");
+
+        // when * 네 스레드가 동시에 열 번씩 수정합니다.
+        int threads = 4;
+        int updates = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < updates; i++) {
+                    String content = PREFIX + " thread " + thread + " update " + i;
+                    written.add(content);
+                    blogService.update(id, new UpdateArticleRequest("title", content));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then * 리비전은 빠짐없이 기록되고, 각각 누군가 저장한 본문으로 복원되며 마지막 리비전은 현재 본문과 같습니다.
+        List<ArticleRevisionResponse> revisions = articleRevisionService.findRevisions(id);
+        assertThat(revisions).hasSize(1 + threads * updates);
+        for (int number = 1; number <= revisions.size(); number++) {
+            assertThat(articleRevisionService.findRevision(id, number).getContent()).isIn(written);
+        }
+        assertThat(articleRevisionService.findRevision(id, revisions.size()).getContent())
+                .isEqualTo(blogService.findById(id).getContent());
+    }
+
+    @DisplayName("findRevision: 없는 리비전 번호는 RevisionNotFoundException을 던진다.")
+    @Test
+    public void missingRevision() {
+        // given
+        Article article = blogService.save(new AddArticleRequest("title", "content"));
+
+        // when & then
+        assertThatThrownBy(() -> articleRevisionService.findRevision(article.getId(), 2))
+                .isInstanceOf(RevisionNotFoundException.class);
+        assertThatThrownBy(() -> articleRevisionService.findRevision(article.getId(), 0))
+                .isInstanceOf(RevisionNotFoundException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.springdeveloper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextDeltaTest {
+
+    @DisplayName("diff/apply: delta를 적용하면 수정 후 본문이 복원된다.")
+    @Test
+    public void roundTrip() {
+        // given * 무작위 줄로 이루어진 본문과, 일부를 삽입/삭제/교체한 본문을 만듭니다.
+        Random random = new Random(42);
+        String[] lines = {"a\n", "b\n", "스프링\n", "", "\n", "last line without newline"};
+        for (int round = 0; round < 1_000; round++) {
+            StringBuilder source = new StringBuilder();
+            StringBuilder target = new StringBuilder();
+            int sourceLines = random.nextInt(40);
+            for (int i = 0; i < sourceLines; i++) {
+                source.append(lines[random.nextInt(lines.length)]);
+            }
+            target.append(source);
+            int edits = random.nextInt(6);
+            for (int i = 0; i < edits; i++) {
+                int position = random.nextInt(target.length() + 1);
+                if (random.nextBoolean() || target.isEmpty()) {
+                    target.insert(position, lines[random.nextInt(lines.length)]);
+                } else {
+                    target.delete(position, Math.min(target.length(), position + random.nextInt(8)));
+                }
+            }
+
+            // when
+            String delta = TextDelta.diff(source.toString(), target.toString());
+
+            // then
+            assertThat(TextDelta.apply(source.toString(), delta)).isEqualTo(target.toString());
+        }
+    }
+
+    @DisplayName("diff: 긴 본문의 한 줄만 바뀌면 delta도 그 줄 크기에 비례한다.")
+    @Test
+    public void deltaProportionalToChange() {
+        // given * 3000줄짜리 본문에서 한 줄만 바꿉니다.
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 3_000; i++) {
+            source.append("line ").append(i).append('\n');
+        }
+        String target = source.toString().replace("line 1500\n", "changed\n");
+
+        // when
+        String delta = TextDelta.diff(source.toString(), target);
+
+        // then
+        assertThat(delta).isEqualTo("=13890;-10;+8:changed\n=14990;");
+        assertThat(TextDelta.apply(source.toString(), delta)).isEqualTo(target);
+    }
+}